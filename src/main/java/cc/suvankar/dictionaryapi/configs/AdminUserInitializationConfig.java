@@ -24,12 +24,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.env.Environment;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import cc.suvankar.dictionaryapi.data.Users;
 import cc.suvankar.dictionaryapi.services.CustomUserDetailsService;
 
 @Configuration
+// the prebuilt dictionary is shipped without users
+@Profile("!build-db")
 public class AdminUserInitializationConfig {
 
     @Value("${dict_admin_user:admin}")
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.configs;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Points the application at the dictionary database built into the jar by the prebuilt-db Maven profile.
+ * <p>
+ * When the jar has one, it is copied out of the jar (SQLite cannot open a file inside an archive) and
+ * opened read only in place of the database of the active profile, and nothing is imported at startup.
+ * Set dictionary.prebuilt.enabled to false to use the configured database instead.
+ * <p>
+ * With the build-db profile it prepares the file the build writes the database to.
+ */
+public class PrebuiltDatabaseEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE_NAME = "prebuiltDatabase";
+
+    private static final String DEFAULT_LOCATION = "classpath:prebuilt/dictionary.sqlite";
+
+    private final Log log;
+
+    public PrebuiltDatabaseEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(PrebuiltDatabaseEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.acceptsProfiles(Profiles.of("build-db"))) {
+            prepareOutput(environment.getRequiredProperty("dictionary.prebuilt.output"));
+            return;
+        }
+        if (environment.acceptsProfiles(Profiles.of("test"))
+                || !environment.getProperty("dictionary.prebuilt.enabled", Boolean.class, true)) {
+            return;
+        }
+
+        Resource database = new DefaultResourceLoader()
+                .getResource(environment.getProperty("dictionary.prebuilt.location", DEFAULT_LOCATION));
+        if (!database.exists()) {
+            return;
+        }
+
+        Path directory = Path.of(environment.getProperty("dictionary.prebuilt.directory",
+                System.getProperty("java.io.tmpdir") + "/free-dictionary-api"));
+        Path file = extract(database, directory);
+        log.info("Serving the prebuilt dictionary " + file + ", read only.");
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        // open_mode=1 is SQLITE_OPEN_READONLY
+        properties.put("spring.datasource.url", "jdbc:sqlite:" + file + "?open_mode=1");
+        properties.put("spring.datasource.driverClassName", "org.sqlite.JDBC");
+        // otherwise Hikari resets the connections to read write, which SQLite refuses once they are open
+        properties.put("spring.datasource.hikari.read-only", true);
+        properties.put("spring.jpa.database-platform", "org.hibernate.community.dialect.SQLiteDialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "none");
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("dictionary.read-only", true);
+        environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME, properties));
+    }
+
+    private static void prepareOutput(String output) {
+        try {
+            Path file = Path.of(output).toAbsolutePath();
+            Files.createDirectories(file.getParent());
+            // the schema is created from scratch, but the SQLite journal of an aborted build would be replayed
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(Path.of(file + "-wal"));
+            Files.deleteIfExists(Path.of(file + "-shm"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Copy the database out of the jar, unless a previous start already did. The copy is named after the
+     * content hash of the database: the directory is shared by every version of the jar, and a rebuilt
+     * database often has the same size. The copy is written to a temporary file first, so a start killed
+     * halfway never leaves a truncated database behind.
+     */
+    private static Path extract(Resource database, Path directory) {
+        try {
+            Path file = directory.resolve("dictionary-" + contentHash(database) + ".sqlite");
+            if (Files.exists(file)) {
+                return file;
+            }
+            Files.createDirectories(directory);
+            Path partial = Files.createTempFile(directory, "dictionary", ".partial");
+            try (InputStream in = database.getInputStream()) {
+                Files.copy(in, partial, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not extract the prebuilt dictionary to " + directory, e);
+        }
+    }
+
+    /**
+     * @return Returns the SHA-256 of the database, hex encoded
+     */
+    static String contentHash(Resource database) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform has to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(database.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -42,9 +42,11 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         httpSecurity
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
-                        .requestMatchers("/dictionaryapi/v1/parse").hasRole("ADMIN")
+                        .requestMatchers("/dictionaryapi/v1/parse", "/dictionaryapi/v1/parse/**").hasRole("ADMIN")
                         .requestMatchers("/dictionaryapi/v1/definitions").permitAll()
                         .requestMatchers("/dictionaryapi/v1/endpoints").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().denyAll())
                 .httpBasic(Customizer.withDefaults())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.configs;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Brings a SQLite dictionary created by an older version up to schema-sqlite.sql, which the sqlite profile
+ * never runs on an existing database. The tables, indexes and columns missing from the database are
+ * created from their definition in the script, and the sequence tables start after the ids already used.
+ * <p>
+ * Runs before anything else uses the database, see {@link SqliteSchemaMigrationDetector}, and stops the
+ * startup if the database cannot be migrated. An empty database is left to the schema script.
+ */
+@Component
+@Profile("sqlite")
+public class SqliteSchemaMigration {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(SqliteSchemaMigration.class);
+
+    static final String SCHEMA = "schema-sqlite.sql";
+
+    private static final Pattern CREATE = Pattern.compile("CREATE (TABLE|INDEX) (\\w+)", Pattern.CASE_INSENSITIVE);
+    // commas between the column definitions, not the ones inside parentheses
+    private static final Pattern DEFINITION_SEPARATOR = Pattern.compile(",(?![^()]*\\))");
+    private static final Set<String> TABLE_CONSTRAINTS = Set.of("CONSTRAINT", "PRIMARY", "UNIQUE", "CHECK", "FOREIGN");
+
+    // must match the allocationSize of the entities
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SqliteSchemaMigration(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @PostConstruct
+    public void migrate() {
+        List<String> statements;
+        try {
+            statements = statements();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read " + SCHEMA + ": " + e.getMessage(), e);
+        }
+        try {
+            List<String> added = transactionTemplate.execute(status -> migrate(statements));
+            if (!added.isEmpty()) {
+                LOG.info("Migrated the database to {}, added {}.", SCHEMA, added);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Unable to migrate the database to " + SCHEMA + ", it was left as it was: "
+                    + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return Returns the tables, indexes and columns added
+     */
+    private List<String> migrate(List<String> statements) {
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList("SELECT name FROM sqlite_master", String.class));
+        List<String> added = new ArrayList<>();
+        if (!existing.contains("dictionary_entry")) {
+            return added;
+        }
+        for (String statement : statements) {
+            Matcher create = CREATE.matcher(statement);
+            if (!create.lookingAt()) {
+                continue;
+            }
+            String name = create.group(2);
+            if (!existing.contains(name)) {
+                jdbcTemplate.execute(statement);
+                if (name.endsWith("_seq")) {
+                    startSequence(name);
+                }
+                added.add(name);
+            } else if (create.group(1).equalsIgnoreCase("TABLE")) {
+                addMissingColumns(name, statement, added);
+            }
+        }
+        return added;
+    }
+
+    private void addMissingColumns(String table, String createTable, List<String> added) {
+        Set<String> columns = new HashSet<>(jdbcTemplate.query("PRAGMA table_info(" + table + ")",
+                (resultSet, row) -> resultSet.getString("name")));
+        String body = createTable.substring(createTable.indexOf('(') + 1, createTable.lastIndexOf(')'));
+        for (String definition : DEFINITION_SEPARATOR.split(body)) {
+            String column = definition.trim().split("\\s+")[0];
+            if (!TABLE_CONSTRAINTS.contains(column.toUpperCase(Locale.ROOT)) && !columns.contains(column)) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN " + definition.trim());
+                added.add(table + "." + column);
+            }
+        }
+    }
+
+    /**
+     * Hibernate emulates the sequences with a single row table, the pooled optimizer hands out the block
+     * ending at the value it reads first.
+     */
+    private void startSequence(String sequenceTable) {
+        String table = sequenceTable.substring(0, sequenceTable.length() - "_seq".length());
+        jdbcTemplate.update("INSERT INTO " + sequenceTable + " SELECT COALESCE(MAX(id), 0) + 1 + ? FROM " + table,
+                ALLOCATION_SIZE);
+    }
+
+    /**
+     * @return Returns the statements of the schema script, without its comments
+     */
+    private static List<String> statements() throws IOException {
+        String script = new ClassPathResource(SCHEMA).getContentAsString(StandardCharsets.UTF_8).lines()
+                .filter(line -> !line.trim().startsWith("--"))
+                .collect(Collectors.joining("\n"));
+        return Arrays.stream(script.split(";"))
+                .map(String::trim)
+                .filter(statement -> !statement.isEmpty())
+                .toList();
+    }
+}
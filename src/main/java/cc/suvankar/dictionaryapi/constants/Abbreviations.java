@@ -17,11 +17,12 @@
 
 package cc.suvankar.dictionaryapi.constants;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class Abbreviations {
-    public static final Map<String, String> ABBREVIATION_MAP = new HashMap<>();
+    // in the order below, see AbbreviationMatcher
+    public static final Map<String, String> ABBREVIATION_MAP = new LinkedHashMap<>();
 
     static {
         ABBREVIATION_MAP.put("a.","adjective");
@@ -13,6 +13,10 @@ public class EndpointsController {
     public List<String> getEndpoints() {
         return Arrays.asList(
                 "/dictionaryapi/v1/parse?file={file}",
+                "/dictionaryapi/v1/parse/jobs",
+                "/dictionaryapi/v1/parse/jobs/{id}",
+                "/dictionaryapi/v1/parse/quarantine",
+                "/dictionaryapi/v1/parse/quarantine/retry",
                 "/dictionaryapi/v1/definitions?word={word}",
                 "/dictionaryapi/v1/endpoints");
     }
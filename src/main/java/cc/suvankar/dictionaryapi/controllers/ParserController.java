@@ -3,23 +3,24 @@ package cc.suvankar.dictionaryapi.controllers;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import cc.suvankar.dictionaryapi.services.XmlProcessor;
+import cc.suvankar.dictionaryapi.data.QuarantinedBlock;
+import cc.suvankar.dictionaryapi.exceptions.IngestionJobConflictException;
+import cc.suvankar.dictionaryapi.exceptions.ReadOnlyDictionaryException;
+import cc.suvankar.dictionaryapi.services.BlockQuarantine;
+import cc.suvankar.dictionaryapi.services.IngestionJob;
+import cc.suvankar.dictionaryapi.services.IngestionJobService;
 
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.stream.Stream;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 @RestController
@@ -30,53 +31,67 @@ public class ParserController {
             .getLogger(ParserController.class);
 
     @Autowired
-    private XmlProcessor xmlProcessor;
+    private IngestionJobService ingestionJobService;
 
+    @Autowired
+    private BlockQuarantine blockQuarantine;
+
+    /**
+     * Start an import in the background.
+     * @param file a CIDE file name, or "all"
+     * @return Returns the queued job, or the job already importing the same files with 409, or 409 without a
+     * job when the dictionary is read only
+     */
     @GetMapping("/parse")
-    public ResponseEntity<HttpStatus> parse(@RequestParam String file) {
-        Path directory;
-        try {
-            URI uri = getClass().getClassLoader().getResource("GCIDE").toURI();
-            directory = Paths.get(uri);
-        } catch (URISyntaxException | NullPointerException e) {
-            throw new RuntimeException("Unable to locate GCIDE resource directory", e);
-        }
+    public ResponseEntity<IngestionJob> parse(@RequestParam String file) {
+        return submit(file);
+    }
 
-        int numberOfThreads = Runtime.getRuntime().availableProcessors();
-        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+    /**
+     * @return Returns the blocks the last imports failed to parse, by file
+     */
+    @GetMapping("/parse/quarantine")
+    public List<QuarantinedBlock> getQuarantine() {
+        return blockQuarantine.findAll();
+    }
 
+    /**
+     * Parse the quarantined blocks again in the background, e.g. after a parser fix, and import again the
+     * files any quarantined block of which parses now. The blocks that still fail stay quarantined.
+     * @return Returns the same as {@link #parse(String)}
+     */
+    @PostMapping("/parse/quarantine/retry")
+    public ResponseEntity<IngestionJob> retryQuarantine() {
+        return submit(IngestionJobService.QUARANTINED);
+    }
+
+    private ResponseEntity<IngestionJob> submit(String dataset) {
         try {
-            if (file.equals("all")) {
-                // loop though all CIDE.*.xml files
-                try (Stream<Path> files = Files.list(directory)) {
-                    files.filter(Files::isRegularFile)
-                            .map(Path::getFileName)
-                            .forEach(filePath -> {
-                                String fileName = filePath.toString();
-                                if (fileName.startsWith("CIDE") && fileName.endsWith(".xml")) {
-                                    LOG.info("Parsing file {}", fileName);
-                                    executorService.execute(() -> {
-                                        try {
-                                            xmlProcessor.processAndPersistXml(fileName);
-                                        } catch (Exception e) {
-                                            LOG.error("Error processing file {}: {}", fileName, e.getMessage());
-                                        }
-                                    });
-                                }
-                            });
-                    executorService.shutdown();
-                    executorService.awaitTermination(Long.MAX_VALUE, java.util.concurrent.TimeUnit.NANOSECONDS);
-                }
-            } else {
-                xmlProcessor.processAndPersistXml(file);
-            }
-            LOG.info("Parsing completed");
-        } catch (Exception e) {
-            LOG.error("Fatal error {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(HttpStatus.INTERNAL_SERVER_ERROR);
+            IngestionJob job = ingestionJobService.submit(dataset, true);
+            LOG.info("Queued job {} importing {}", job.getId(), dataset);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (IngestionJobConflictException e) {
+            LOG.warn(e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getActiveJob());
+        } catch (ReadOnlyDictionaryException e) {
+            LOG.warn(e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
+    }
+
+    @GetMapping("/parse/jobs")
+    public List<IngestionJob> getJobs() {
+        return ingestionJobService.getJobs();
+    }
+
+    @GetMapping("/parse/jobs/{id}")
+    public ResponseEntity<IngestionJob> getJob(@PathVariable long id) {
+        return ResponseEntity.of(ingestionJobService.findJob(id));
+    }
 
-        return ResponseEntity.ok(HttpStatus.OK);
+    @DeleteMapping("/parse/jobs/{id}")
+    public ResponseEntity<IngestionJob> cancelJob(@PathVariable long id) {
+        return ResponseEntity.of(ingestionJobService.cancel(id));
     }
 
 }
@@ -20,15 +20,20 @@ package cc.suvankar.dictionaryapi.data;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(name = "definition",
+        indexes = @Index(name = "idx_definition_dictionary_entry_id", columnList = "dictionary_entry_id"))
 public class Definition {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "definition_seq")
+    @SequenceGenerator(name = "definition_seq", sequenceName = "definition_seq", allocationSize = 50)
     private Long id;
 
     @Lob
@@ -40,5 +45,7 @@ public class Definition {
 
     @ManyToOne
     @JoinColumn(name = "dictionary_entry_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private DictionaryEntry dictionaryEntry;
 }
@@ -17,10 +17,12 @@
 
 package cc.suvankar.dictionaryapi.data;
 
+import cc.suvankar.dictionaryapi.utils.LookupKeys;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -28,35 +30,68 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "dictionary_entry")
+@Table(name = "dictionary_entry", indexes = {
+        @Index(name = "idx_dictionary_entry_source_file", columnList = "source_file"),
+        @Index(name = "idx_dictionary_entry_entry_word_key", columnList = "entry_word_key") })
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class DictionaryEntry {
+
+    /**
+     * Entries whose collections are loaded by one statement, the collections are batch fetched so that a
+     * lookup costs a statement per collection and not per entry.
+     */
+    public static final int FETCH_BATCH_SIZE = 64;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dictionary_entry_seq")
+    @SequenceGenerator(name = "dictionary_entry_seq", sequenceName = "dictionary_entry_seq", allocationSize = 50)
     private Long id;
 
     private String entryWord;
     private String headWord;
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
-    @JoinColumn(name = "dictionary_entry_id")
+    // entryWord as looked up, see LookupKeys
+    private String entryWordKey;
+
+    @OneToMany(mappedBy = "dictionaryEntry", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @BatchSize(size = FETCH_BATCH_SIZE)
     private List<Definition> definitions = new LinkedList<>();
 
     @ElementCollection
+    @CollectionTable(name = "dictionary_entry_parts_of_speech", joinColumns = @JoinColumn(name = "dictionary_entry_id"),
+            indexes = @Index(name = "idx_dictionary_entry_parts_of_speech_dictionary_entry_id",
+                    columnList = "dictionary_entry_id"))
+    @BatchSize(size = FETCH_BATCH_SIZE)
     private Set<String> partsOfSpeech = new LinkedHashSet<>();
 
     @Embedded
     private Synonym synonym = new Synonym();
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
-    @JoinColumn(name = "dictionary_entry_id")
+    @OneToMany(mappedBy = "dictionaryEntry", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @BatchSize(size = FETCH_BATCH_SIZE)
     private List<VerbMorphologyEntry> verbMorphologyEntries = new LinkedList<>();
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
-    @JoinColumn(name = "dictionary_entry_id")
+    @OneToMany(mappedBy = "dictionaryEntry", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @BatchSize(size = FETCH_BATCH_SIZE)
     private List<Quote> quotes = new LinkedList<>();
     @Column(columnDefinition = "TEXT")
     private String etymology;
+
+    // CIDE file the entry was imported from
+    private String sourceFile;
+
+    // natural key within the source file together with entryWord and headWord, see EntryKeys
+    private Integer entryOrdinal;
+
+    // SHA-256 of the parsed entry, hex encoded
+    @Column(length = 64)
+    private String contentHash;
+
+    @PrePersist
+    @PreUpdate
+    private void updateLookupKey() {
+        entryWordKey = LookupKeys.normalize(entryWord);
+    }
 }
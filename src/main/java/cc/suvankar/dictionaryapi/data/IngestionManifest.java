@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.data;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Import state of one CIDE file. A file is only skipped on the next import when it is COMPLETED with
+ * the same content hash.
+ */
+@Entity
+@Table(name = "ingestion_manifest")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IngestionManifest {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false)
+    private String fileName;
+
+    // SHA-256 of the file, hex encoded
+    @Column(length = 64)
+    private String contentHash;
+
+    private long entryCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Status status;
+
+    private Instant startedAt;
+    private Instant completedAt;
+
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED,
+        FAILED
+    }
+}
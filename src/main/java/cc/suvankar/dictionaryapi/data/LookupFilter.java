@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.data;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * The Bloom filter of the lookup keys of the dictionary, see
+ * {@link cc.suvankar.dictionaryapi.services.LookupFilterService}. A single row, stored with the entries
+ * so that a copy of the database, like the prebuilt one, has it too.
+ */
+@Entity
+@Table(name = "lookup_filter")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LookupFilter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // distinct keys put in the filter
+    private int keyCount;
+
+    private double falsePositiveRate;
+
+    private int hashFunctions;
+
+    // BloomFilter.toBytes, read and written as bytes and not as a java.sql.Blob, which SQLite does not have
+    @Column(columnDefinition = "BLOB")
+    private byte[] bits;
+
+    private Instant builtAt;
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.data;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A block of a CIDE file the parser failed on. The import skips it and goes on with the next block, the
+ * block is kept here to be parsed again once the parser is fixed.
+ */
+@Entity
+@Table(name = "quarantined_block")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuarantinedBlock {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    // in bytes from the start of the file
+    private long blockOffset;
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String block;
+
+    @Column(length = 1000)
+    private String error;
+
+    private Instant quarantinedAt;
+}
@@ -20,15 +20,19 @@ package cc.suvankar.dictionaryapi.data;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
+@Table(name = "quote", indexes = @Index(name = "idx_quote_dictionary_entry_id", columnList = "dictionary_entry_id"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class Quote {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quote_seq")
+    @SequenceGenerator(name = "quote_seq", sequenceName = "quote_seq", allocationSize = 50)
     private Long id;
 
     @Lob
@@ -40,5 +44,7 @@ public class Quote {
 
     @ManyToOne
     @JoinColumn(name = "dictionary_entry_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private DictionaryEntry dictionaryEntry;
 }
@@ -21,6 +21,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -31,8 +32,10 @@ import java.util.List;
 @NoArgsConstructor
 public class Synonym {
     @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "synonyms", joinColumns = @JoinColumn(name = "dictionary_entry_id"))
+    @CollectionTable(name = "synonyms", joinColumns = @JoinColumn(name = "dictionary_entry_id"),
+            indexes = @Index(name = "idx_synonyms_dictionary_entry_id", columnList = "dictionary_entry_id"))
     @Column(name = "synonym", length = 5000)
+    @BatchSize(size = DictionaryEntry.FETCH_BATCH_SIZE)
     private List<String> synonymList = new LinkedList<>();
     private String source;
 }
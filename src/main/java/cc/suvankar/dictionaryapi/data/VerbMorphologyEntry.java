@@ -17,28 +17,52 @@
 
 package cc.suvankar.dictionaryapi.data;
 
+import cc.suvankar.dictionaryapi.utils.LookupKeys;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.LinkedList;
 import java.util.List;
 
 @Entity
+@Table(name = "verb_morphology_entry", indexes = {
+        @Index(name = "idx_verb_morphology_entry_dictionary_entry_id", columnList = "dictionary_entry_id"),
+        @Index(name = "idx_verb_morphology_entry_conjugated_form_key", columnList = "conjugated_form_key") })
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class VerbMorphologyEntry {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "verb_morphology_entry_seq")
+    @SequenceGenerator(name = "verb_morphology_entry_seq", sequenceName = "verb_morphology_entry_seq", allocationSize = 50)
     private Long id;
 
     @ElementCollection
+    @CollectionTable(name = "verb_morphology_entry_parts_of_speech",
+            joinColumns = @JoinColumn(name = "verb_morphology_entry_id"),
+            indexes = @Index(name = "idx_verb_morphology_entry_parts_of_speech_verb_morphology_entry_id",
+                    columnList = "verb_morphology_entry_id"))
+    @BatchSize(size = DictionaryEntry.FETCH_BATCH_SIZE)
     private List<String> partsOfSpeech = new LinkedList<>();
     private String conjugatedForm;
 
+    // conjugatedForm as looked up, see LookupKeys
+    private String conjugatedFormKey;
+
     @ManyToOne
     @JoinColumn(name = "dictionary_entry_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private DictionaryEntry dictionaryEntry;
+
+    @PrePersist
+    @PreUpdate
+    private void updateLookupKey() {
+        conjugatedFormKey = LookupKeys.normalize(conjugatedForm);
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.exceptions;
+
+import cc.suvankar.dictionaryapi.services.IngestionJob;
+import lombok.Getter;
+
+/**
+ * Thrown when an import is submitted while another import of the same files is queued or running.
+ */
+@Getter
+public class IngestionJobConflictException extends RuntimeException {
+    private final IngestionJob activeJob;
+
+    public IngestionJobConflictException(IngestionJob activeJob) {
+        super("Job " + activeJob.getId() + " is already importing " + activeJob.getDataset());
+        this.activeJob = activeJob;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.listeners;
+
+import cc.suvankar.dictionaryapi.data.IngestionManifest;
+import cc.suvankar.dictionaryapi.repositories.IngestionManifestRepository;
+import cc.suvankar.dictionaryapi.services.IngestionService;
+import cc.suvankar.dictionaryapi.services.LookupFilterService;
+import cc.suvankar.dictionaryapi.utils.FileReaderUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Builds the prebuilt dictionary database during the Maven build (prebuilt-db profile): imports all CIDE
+ * files into an empty SQLite file, compacts it, and stops the application. The exit code tells the build
+ * whether every file was imported.
+ */
+@Component
+@Profile("build-db")
+public class PrebuiltDatabaseBuilder {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(PrebuiltDatabaseBuilder.class);
+
+    private final IngestionService ingestionService;
+    private final IngestionManifestRepository manifestRepository;
+    private final LookupFilterService lookupFilter;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationContext context;
+
+    @Value("${dictionary.prebuilt.output}")
+    private String output;
+
+    public PrebuiltDatabaseBuilder(IngestionService ingestionService,
+            IngestionManifestRepository manifestRepository,
+            LookupFilterService lookupFilter,
+            JdbcTemplate jdbcTemplate,
+            ApplicationContext context) {
+        this.ingestionService = ingestionService;
+        this.manifestRepository = manifestRepository;
+        this.lookupFilter = lookupFilter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.context = context;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        int exitCode;
+        try {
+            exitCode = build(FileReaderUtil.listFiles());
+        } catch (IOException e) {
+            LOG.error("Cannot list the dictionary files: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+
+    /**
+     * @return Returns the exit code of the build, 0 if every file was imported
+     */
+    int build(List<String> fileNames) {
+        try {
+            return buildDatabase(fileNames) ? 0 : 1;
+        } catch (Exception e) {
+            LOG.error("Fatal error {}", e.getMessage(), e);
+            return 1;
+        }
+    }
+
+    private boolean buildDatabase(List<String> fileNames) throws Exception {
+        LOG.info("Building the prebuilt dictionary {} from {} files...", output, fileNames.size());
+        ingestionService.importFiles(fileNames, true);
+
+        long completed = manifestRepository.findAll().stream()
+                .filter(manifest -> manifest.getStatus() == IngestionManifest.Status.COMPLETED)
+                .count();
+        if (completed != fileNames.size()) {
+            LOG.error("Only {} of {} files were imported, the prebuilt dictionary is not usable.",
+                    completed, fileNames.size());
+            return false;
+        }
+
+        // the prebuilt dictionary is read only, its filter is built here
+        lookupFilter.rebuild();
+
+        // a single file without -wal and -shm files, which a read only connection can open
+        jdbcTemplate.execute("PRAGMA journal_mode = DELETE");
+        // statistics for the query planner, then drop the free pages left by the import
+        jdbcTemplate.execute("ANALYZE");
+        jdbcTemplate.execute("VACUUM");
+
+        Long entries = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dictionary_entry", Long.class);
+        LOG.info("Prebuilt dictionary {} is ready, {} entries, {} bytes.", output, entries,
+                Files.size(Path.of(output)));
+        return true;
+    }
+}
@@ -17,6 +17,7 @@
 
 package cc.suvankar.dictionaryapi.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -43,6 +44,9 @@ public class DictionaryEntry {
     private List<Quote> quotes = new LinkedList<>();
     private String etymology;
 
+    // position among the entries of the file with the same entry word and head word, see EntryKeys
+    @JsonIgnore
+    private int ordinal;
 
     @Override
     public boolean equals(Object o) {
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.parser;
+
+import cc.suvankar.dictionaryapi.constants.Abbreviations;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the abbreviations of {@link Abbreviations} in a text with an Aho–Corasick automaton, so all of
+ * them are looked for in a single pass over the text, whatever their number.
+ * <p>
+ * An abbreviation only matches as a whole: it must not be preceded or followed by a letter or a digit,
+ * so "a." is found in "a. &amp; n." but not in "Ala.". Where matches overlap the leftmost one wins, then
+ * the longest, so "v. t." is one match and not "v." followed by "t.". Matching is case sensitive.
+ * <p>
+ * The automaton is immutable once built and safe to share between threads.
+ */
+public final class AbbreviationMatcher {
+
+    /**
+     * The abbreviations of the CIDE files, built once.
+     */
+    public static final AbbreviationMatcher CIDE = new AbbreviationMatcher(Abbreviations.ABBREVIATION_MAP);
+
+    private final String[] patterns;
+    private final String[] expansions;
+
+    // characters that appear in no pattern share class 0, which always leads back to the root
+    private final int[] charClass;
+    private final int classCount;
+
+    // complete transition table, delta[state * classCount + class]; state 0 is the root
+    private final int[] delta;
+    // pattern ending in the state, or -1
+    private final int[] output;
+    // nearest state on the failure chain that ends a pattern, or -1
+    private final int[] outputLink;
+
+    /**
+     * @param abbreviations abbreviation to expansion. Trailing "|" and blanks of the keys are ignored,
+     *                      the first of two keys that are the same once trimmed is kept, in the
+     *                      iteration order of the map.
+     */
+    public AbbreviationMatcher(Map<String, String> abbreviations) {
+        Map<String, String> trimmed = new LinkedHashMap<>();
+        abbreviations.forEach((abbreviation, expansion) -> {
+            String pattern = abbreviation.replaceAll("[\\s|]+$", "");
+            if (!pattern.isEmpty()) {
+                trimmed.putIfAbsent(pattern, expansion);
+            }
+        });
+        this.patterns = trimmed.keySet().toArray(new String[0]);
+        this.expansions = trimmed.values().toArray(new String[0]);
+
+        int maxChar = 0;
+        int maxStates = 1;
+        for (String pattern : patterns) {
+            maxStates += pattern.length();
+            for (int i = 0; i < pattern.length(); i++) {
+                maxChar = Math.max(maxChar, pattern.charAt(i));
+            }
+        }
+        this.charClass = new int[maxChar + 1];
+        int classes = 1;
+        for (String pattern : patterns) {
+            for (int i = 0; i < pattern.length(); i++) {
+                if (charClass[pattern.charAt(i)] == 0) {
+                    charClass[pattern.charAt(i)] = classes++;
+                }
+            }
+        }
+        this.classCount = classes;
+
+        // the trie; no edge leads to the root, so 0 stands for a missing edge until the table is completed
+        int[] goTo = new int[maxStates * classCount];
+        int[] out = new int[maxStates];
+        Arrays.fill(out, -1);
+        int states = 1;
+        for (int p = 0; p < patterns.length; p++) {
+            int state = 0;
+            for (int i = 0; i < patterns[p].length(); i++) {
+                int edge = state * classCount + charClass[patterns[p].charAt(i)];
+                if (goTo[edge] == 0) {
+                    goTo[edge] = states++;
+                }
+                state = goTo[edge];
+            }
+            out[state] = p;
+        }
+
+        // breadth first, so the failure state of a state is always complete before the state itself
+        int[] fail = new int[states];
+        int[] link = new int[states];
+        link[0] = -1;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int c = 1; c < classCount; c++) {
+                int edge = state * classCount + c;
+                int child = goTo[edge];
+                int fallback = state == 0 ? 0 : goTo[fail[state] * classCount + c];
+                if (child == 0) {
+                    goTo[edge] = fallback;
+                } else {
+                    fail[child] = fallback;
+                    link[child] = out[fallback] != -1 ? fallback : link[fallback];
+                    queue.add(child);
+                }
+            }
+        }
+
+        this.delta = Arrays.copyOf(goTo, states * classCount);
+        this.output = Arrays.copyOf(out, states);
+        this.outputLink = link;
+    }
+
+    /**
+     * @return Returns the text with every abbreviation replaced by its expansion, or the text itself when
+     * it has none
+     */
+    public String expand(String text) {
+        int[] matches = matches(text);
+        if (matches == null) {
+            return text;
+        }
+        StringBuilder expanded = new StringBuilder(text.length() + 32);
+        int copied = 0;
+        for (int start = 0; start < text.length(); start++) {
+            if (matches[start] != 0) {
+                int pattern = matches[start] - 1;
+                expanded.append(text, copied, start).append(expansions[pattern]);
+                copied = start + patterns[pattern].length();
+                start = copied - 1;
+            }
+        }
+        return expanded.append(text, copied, text.length()).toString();
+    }
+
+    /**
+     * @return Returns the expansions of the abbreviations of the text, in the order they appear.
+     * Anything else in the text is ignored.
+     */
+    public List<String> expansions(String text) {
+        int[] matches = matches(text);
+        if (matches == null) {
+            return Collections.emptyList();
+        }
+        List<String> found = new ArrayList<>(2);
+        for (int start = 0; start < text.length(); start++) {
+            if (matches[start] != 0) {
+                int pattern = matches[start] - 1;
+                found.add(expansions[pattern]);
+                start += patterns[pattern].length() - 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Run the automaton over the text once.
+     * @return Returns, by start index, 1 + the index of the longest whole word pattern starting there
+     * (0 for none), or null when the text has no match at all
+     */
+    private int[] matches(String text) {
+        int[] matches = null;
+        int state = 0;
+        for (int end = 1; end <= text.length(); end++) {
+            char c = text.charAt(end - 1);
+            state = delta[state * classCount + (c < charClass.length ? charClass[c] : 0)];
+
+            for (int s = output[state] != -1 ? state : outputLink[state]; s != -1; s = outputLink[s]) {
+                int pattern = output[s];
+                int start = end - patterns[pattern].length();
+                if (!isWholeWord(text, start, end)) {
+                    continue;
+                }
+                if (matches == null) {
+                    matches = new int[text.length()];
+                }
+                if (matches[start] == 0 || patterns[matches[start] - 1].length() < patterns[pattern].length()) {
+                    matches[start] = pattern + 1;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean isWholeWord(String text, int start, int end) {
+        return (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1)))
+                && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)));
+    }
+}
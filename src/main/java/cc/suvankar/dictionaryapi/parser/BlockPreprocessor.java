@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.parser;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns a raw CIDE &lt;p&gt; block into well-formed XML for the {@link XmlParser}.
+ * <p>
+ * All rewrites are applied in one scan over the block, writing into a per-thread buffer:
+ * <ul>
+ * <li>comments are removed, a block with an unterminated comment is skipped</li>
+ * <li>{@code <?/} is removed</li>
+ * <li>{@code <ldquo/}, {@code <rdquo/} become {@code "}, {@code <lsquo/}, {@code <rsquo/} become {@code '}</li>
+ * <li>{@code <lt/}, {@code <gt/} become {@code &lt}, {@code &gt}</li>
+ * <li>other {@code <name/} entities become {@code {name/}}, {@code {br/}} is dropped</li>
+ * <li>a {@code &} which does not start an entity reference becomes {@code &amp;}</li>
+ * <li>{@code <cs>} and {@code <note>} tags are removed, their content is kept</li>
+ * </ul>
+ */
+@Component
+public class BlockPreprocessor {
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    /**
+     * @param text the whole file content
+     * @param start index of the opening &lt;p&gt; tag of the block
+     * @param end index just after the closing &lt;/p&gt; tag of the block
+     * @return Returns the block ready for parsing, or null if the block has an unterminated comment
+     */
+    public String preprocess(CharSequence text, int start, int end) {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i);
+
+            if (c == '<') {
+                if (regionMatches(text, i, end, "<!--")) {
+                    int commentEnd = indexOf(text, "-->", i + 4, end);
+                    if (commentEnd == -1) {
+                        return null;
+                    }
+                    i = commentEnd + 3;
+                    continue;
+                }
+                if (regionMatches(text, i, end, "<?/")) {
+                    i += 3;
+                    continue;
+                }
+
+                // <name/ entity
+                int nameEnd = i + 1;
+                while (nameEnd < end && isWordChar(text.charAt(nameEnd))) {
+                    nameEnd++;
+                }
+                if (nameEnd > i + 1 && nameEnd < end && text.charAt(nameEnd) == '/') {
+                    appendEntity(out, text, i + 1, nameEnd, end);
+                    i = nameEnd + 1;
+                    continue;
+                }
+
+                int tagLength = removedTagLength(text, i, end);
+                if (tagLength > 0) {
+                    i += tagLength;
+                    continue;
+                }
+            } else if (c == '{') {
+                int brEnd = brTagEnd(text, i, end);
+                if (brEnd != -1) {
+                    i = brEnd;
+                    continue;
+                }
+            } else if (c == '&') {
+                out.append(startsEntityReference(text, i + 1, end, false) ? "&" : "&amp;");
+                i++;
+                continue;
+            }
+
+            out.append(c);
+            i++;
+        }
+
+        return out.toString();
+    }
+
+    private static void appendEntity(StringBuilder out, CharSequence text, int nameStart, int nameEnd, int end) {
+        int after = nameEnd + 1;
+        switch (nameEnd - nameStart) {
+            case 2 -> {
+                if (regionMatches(text, nameStart, nameEnd, "lt") || regionMatches(text, nameStart, nameEnd, "gt")) {
+                    // <lt/ becomes &lt, which still has to go through the & escaping
+                    out.append(startsEntityReference(text, after, end, true) ? "&" : "&amp;")
+                            .append(text, nameStart, nameEnd);
+                    return;
+                }
+                if (Character.toLowerCase(text.charAt(nameStart)) == 'b'
+                        && Character.toLowerCase(text.charAt(nameStart + 1)) == 'r') {
+                    // {br/} is dropped
+                    return;
+                }
+            }
+            case 5 -> {
+                if (regionMatches(text, nameStart, nameEnd, "ldquo") || regionMatches(text, nameStart, nameEnd, "rdquo")) {
+                    out.append('"');
+                    return;
+                }
+                if (regionMatches(text, nameStart, nameEnd, "lsquo") || regionMatches(text, nameStart, nameEnd, "rsquo")) {
+                    out.append('\'');
+                    return;
+                }
+            }
+            default -> {
+                // a plain entity
+            }
+        }
+        out.append('{').append(text, nameStart, nameEnd).append("/}");
+    }
+
+    /**
+     * Checks for {@code \w+;} at {@code from}, i.e. whether the preceding {@code &} is an entity reference.
+     * @param hasName true if word characters were already written after the {@code &}
+     */
+    private static boolean startsEntityReference(CharSequence text, int from, int end, boolean hasName) {
+        int i = from;
+        while (i < end && isWordChar(text.charAt(i))) {
+            i++;
+        }
+        return (hasName || i > from) && i < end && text.charAt(i) == ';';
+    }
+
+    /**
+     * Length of the &lt;cs&gt;, &lt;/cs&gt;, &lt;note&gt; or &lt;/note&gt; tag at {@code i}, 0 if there is none.
+     */
+    private static int removedTagLength(CharSequence text, int i, int end) {
+        if (regionMatches(text, i, end, "<cs>")) {
+            return 4;
+        }
+        if (regionMatches(text, i, end, "</cs>")) {
+            return 5;
+        }
+        if (regionMatches(text, i, end, "<note>")) {
+            return 6;
+        }
+        if (regionMatches(text, i, end, "</note>")) {
+            return 7;
+        }
+        return 0;
+    }
+
+    /**
+     * Matches {@code {br/}}, {@code {BR /}}, {@code {br}} and the like at {@code i}.
+     * @return Returns the index after the closing brace, or -1 if there is no match
+     */
+    private static int brTagEnd(CharSequence text, int i, int end) {
+        if (i + 3 >= end
+                || Character.toLowerCase(text.charAt(i + 1)) != 'b'
+                || Character.toLowerCase(text.charAt(i + 2)) != 'r') {
+            return -1;
+        }
+        int j = i + 3;
+        while (j < end && isWhitespace(text.charAt(j))) {
+            j++;
+        }
+        if (j < end && text.charAt(j) == '/') {
+            j++;
+        }
+        return j < end && text.charAt(j) == '}' ? j + 1 : -1;
+    }
+
+    private static boolean regionMatches(CharSequence text, int offset, int end, String value) {
+        if (offset + value.length() > end) {
+            return false;
+        }
+        for (int j = 0; j < value.length(); j++) {
+            if (text.charAt(offset + j) != value.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(CharSequence text, String value, int from, int end) {
+        if (text instanceof String string) {
+            int index = string.indexOf(value, from);
+            return index != -1 && index + value.length() <= end ? index : -1;
+        }
+        for (int i = from; i + value.length() <= end; i++) {
+            if (regionMatches(text, i, end, value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // same as the regex \w
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    // same as the regex \s
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
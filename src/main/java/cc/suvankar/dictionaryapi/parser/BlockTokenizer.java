@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.parser;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * Finds the top level &lt;p&gt; ... &lt;/p&gt; blocks of a CIDE file.
+ * <p>
+ * Nested &lt;p&gt; tags are handled by tracking the nesting depth, so every character of the file
+ * is looked at once. Blocks are reported as offsets into the original text, nothing is copied.
+ * <p>
+ * The tags are plain ASCII, so the same scan also works on UTF-8 encoded bytes, see
+ * {@link #nextBlockStart(ByteBuffer, int)} and {@link #blockEnd(ByteBuffer, int)}.
+ */
+@Component
+public class BlockTokenizer {
+
+    private static final String OPEN_TAG = "<p>";
+    private static final String CLOSE_TAG = "</p>";
+
+    /**
+     * @param text the whole file content
+     * @return Returns a {@link Cursor} positioned before the first block
+     */
+    public Cursor cursor(CharSequence text) {
+        return new Cursor(text);
+    }
+
+    /**
+     * Index of the next &lt;p&gt; tag at or after {@code from}.
+     * @return Returns the index, or -1 if there is no more block
+     */
+    public int nextBlockStart(CharSequence text, int from) {
+        if (text instanceof String string) {
+            return string.indexOf(OPEN_TAG, from);
+        }
+        for (int i = from, last = text.length() - OPEN_TAG.length(); i <= last; i++) {
+            if (text.charAt(i) == '<' && startsWith(text, i, OPEN_TAG)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the &lt;/p&gt; that closes the block opened at {@code start}.
+     * @param start index of the opening &lt;p&gt; tag
+     * @return Returns the index just after the closing tag, or -1 if the block is not terminated
+     */
+    public int blockEnd(CharSequence text, int start) {
+        if (text instanceof String string) {
+            return blockEnd(string, start);
+        }
+
+        int depth = 1;
+        int i = start + OPEN_TAG.length();
+        int length = text.length();
+
+        while (i < length) {
+            if (text.charAt(i) != '<') {
+                i++;
+            } else if (startsWith(text, i, OPEN_TAG)) {
+                depth++;
+                i += OPEN_TAG.length();
+            } else if (startsWith(text, i, CLOSE_TAG)) {
+                i += CLOSE_TAG.length();
+                if (--depth == 0) {
+                    return i;
+                }
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Same as {@link #blockEnd(CharSequence, int)}, but lets the intrinsic {@link String#indexOf}
+     * do the scanning. Both search positions only move forward, so this is still a single pass.
+     */
+    private static int blockEnd(String text, int start) {
+        int depth = 1;
+        int nextOpen = text.indexOf(OPEN_TAG, start + OPEN_TAG.length());
+        int nextClose = text.indexOf(CLOSE_TAG, start + OPEN_TAG.length());
+
+        while (nextClose != -1) {
+            if (nextOpen != -1 && nextOpen < nextClose) {
+                depth++;
+                nextOpen = text.indexOf(OPEN_TAG, nextOpen + OPEN_TAG.length());
+            } else {
+                int end = nextClose + CLOSE_TAG.length();
+                if (--depth == 0) {
+                    return end;
+                }
+                nextClose = text.indexOf(CLOSE_TAG, end);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the next &lt;p&gt; tag at or after {@code from}, in UTF-8 encoded bytes.
+     * Only the bytes up to {@code bytes.limit()} are looked at, the buffer position is not used.
+     * @return Returns the index, or -1 if there is no more block
+     */
+    public int nextBlockStart(ByteBuffer bytes, int from) {
+        for (int i = from, last = bytes.limit() - OPEN_TAG.length(); i <= last; i++) {
+            if (bytes.get(i) == '<' && startsWith(bytes, i, OPEN_TAG)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the &lt;/p&gt; that closes the block opened at {@code start}, in UTF-8 encoded bytes.
+     * @param start index of the opening &lt;p&gt; tag
+     * @return Returns the index just after the closing tag, or -1 if the block is not terminated before the limit
+     */
+    public int blockEnd(ByteBuffer bytes, int start) {
+        int depth = 1;
+        int i = start + OPEN_TAG.length();
+        int limit = bytes.limit();
+
+        while (i < limit) {
+            if (bytes.get(i) != '<') {
+                i++;
+            } else if (startsWith(bytes, i, OPEN_TAG)) {
+                depth++;
+                i += OPEN_TAG.length();
+            } else if (startsWith(bytes, i, CLOSE_TAG)) {
+                i += CLOSE_TAG.length();
+                if (--depth == 0) {
+                    return i;
+                }
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(ByteBuffer bytes, int offset, String tag) {
+        if (offset + tag.length() > bytes.limit()) {
+            return false;
+        }
+        for (int j = 0; j < tag.length(); j++) {
+            if (bytes.get(offset + j) != tag.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(CharSequence text, int offset, String tag) {
+        if (offset + tag.length() > text.length()) {
+            return false;
+        }
+        for (int j = 0; j < tag.length(); j++) {
+            if (text.charAt(offset + j) != tag.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Forward only iterator over the blocks of one text. An unterminated block ends the iteration.
+     */
+    public final class Cursor {
+        private final CharSequence text;
+        private int start = -1;
+        private int end = 0;
+
+        private Cursor(CharSequence text) {
+            this.text = text;
+        }
+
+        /**
+         * Move to the next block.
+         * @return Returns false when there is no more complete block
+         */
+        public boolean next() {
+            if (end == -1) {
+                return false;
+            }
+            start = nextBlockStart(text, end);
+            if (start == -1) {
+                end = -1;
+                return false;
+            }
+            end = blockEnd(text, start);
+            return end != -1;
+        }
+
+        /**
+         * @return Returns the index of the opening &lt;p&gt; tag of the current block
+         */
+        public int start() {
+            return start;
+        }
+
+        /**
+         * @return Returns the index just after the closing &lt;/p&gt; tag of the current block
+         */
+        public int end() {
+            return end;
+        }
+
+        /**
+         * @return Returns a read only view of the current block, backed by the original text
+         */
+        public CharSequence block() {
+            return CharBuffer.wrap(text, start, end);
+        }
+    }
+}
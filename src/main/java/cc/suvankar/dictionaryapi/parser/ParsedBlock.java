@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.parser;
+
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.models.Quote;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Result of parsing one &lt;p&gt; block: either a new {@link DictionaryEntry}, or the quote, extra
+ * definition and synonyms of a continuation block, which belong to the entry parsed before it.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParsedBlock {
+
+    private static final ParsedBlock EMPTY = new ParsedBlock(null, null, null, null, null);
+
+    private final DictionaryEntry entry;
+    private final Quote quote;
+    private final Definition definition;
+    private final List<String> synonyms;
+    private final String synonymSource;
+
+    public static ParsedBlock entry(DictionaryEntry entry) {
+        return new ParsedBlock(entry, null, null, null, null);
+    }
+
+    /**
+     * @param quote the &lt;q&gt; of the block, or null
+     * @param definition the extra &lt;sn&gt; definition of the block, or null
+     * @param synonyms the &lt;syn&gt; synonyms of the block, or null
+     * @param synonymSource the &lt;source&gt; of the synonyms, or null
+     */
+    public static ParsedBlock continuation(Quote quote, Definition definition, List<String> synonyms,
+            String synonymSource) {
+        if (quote == null && definition == null && synonyms == null) {
+            return EMPTY;
+        }
+        return new ParsedBlock(null, quote, definition, synonyms, synonymSource);
+    }
+
+    public boolean isEntry() {
+        return entry != null;
+    }
+
+    /**
+     * True for blocks with neither an entry nor anything to attach, e.g. the file header.
+     */
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    /**
+     * Add the fragments of a continuation block to the entry it belongs to.
+     */
+    public void attachTo(DictionaryEntry previous) {
+        if (quote != null) {
+            previous.getQuotes().add(quote);
+        }
+        if (definition != null) {
+            previous.getDefinitions().add(definition);
+        }
+        if (synonyms != null) {
+            previous.getSynonym().getSynonymList().addAll(synonyms);
+            if (synonymSource != null) {
+                previous.getSynonym().setSource(synonymSource);
+            }
+        }
+    }
+}
@@ -44,4 +44,13 @@ public interface XmlParser {
      * @param xmlData Expects &lt;p&gt;&lt;syn&gt; ... &lt;/syn&gt;&lt;/p&gt; text
      */
     void parseMoreSynonyms(final String xmlData, final DictionaryEntry entry);
+
+    /**
+     * Parse a &lt;p&gt; ... &lt;/p&gt; section once and tell what it is. Gives the same result as calling
+     * {@link #parseDefinition(String)} and, when that returns null, {@link #parseQuote},
+     * {@link #parseMoreDefinition} and {@link #parseMoreSynonyms} on the previous entry.
+     * @param xmlData pass the text &lt;p&gt; ... &lt;/p&gt;
+     * @return Returns a {@link ParsedBlock} holding a new entry or the fragments to attach to the previous one
+     */
+    ParsedBlock parseBlock(String xmlData);
 }
@@ -17,7 +17,6 @@
 
 package cc.suvankar.dictionaryapi.parser;
 
-import cc.suvankar.dictionaryapi.constants.Abbreviations;
 import cc.suvankar.dictionaryapi.exceptions.XmlParserException;
 import cc.suvankar.dictionaryapi.models.Definition;
 import cc.suvankar.dictionaryapi.models.DictionaryEntry;
@@ -25,6 +24,8 @@ import cc.suvankar.dictionaryapi.models.Quote;
 import cc.suvankar.dictionaryapi.models.VerbMorphologyEntry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -39,247 +40,267 @@ import java.io.IOException;
 import java.util.List;
 
 @Component("xmlParserDOMImpl")
+@ConditionalOnProperty(name = "dictionary.parser", havingValue = "dom", matchIfMissing = true)
 public class XmlParserDOMImpl implements XmlParser {
 
     private static final Logger LOG = LoggerFactory
             .getLogger(XmlParserDOMImpl.class);
 
-    @Override
-    public DictionaryEntry parseDefinition(String xmlData) {
-
+    // DocumentBuilder is not thread safe, but can be reused after reset()
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = ThreadLocal.withInitial(() -> {
         try {
             DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
             factory.setIgnoringComments(true); // Ignore comments
             factory.setExpandEntityReferences(false); // Prevent entity expansion
+            return factory.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new XmlParserException(e.getMessage(), e);
+        }
+    });
 
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document document = builder.parse(new org.xml.sax.InputSource(new java.io.StringReader(xmlData)));
-            document.getDocumentElement().normalize();
-
-            DictionaryEntry entry = new DictionaryEntry();
+    @Value("${dictionary.expand-abbreviations:false}")
+    private boolean expandAbbreviations;
 
-            // <ent>
-            if (document.getElementsByTagName("ent").getLength() > 0) {
-                String entTokenValue = document.getElementsByTagName("ent").item(0).getTextContent()
-                        .replaceAll("\n", " ")
-                        .trim();
-                        //.toLowerCase(Locale.ENGLISH);
-                entry.setEntryWord(entTokenValue);
-            } else {
-                // no entry available, just return from here
-                return null;
-            }
+    @Override
+    public DictionaryEntry parseDefinition(String xmlData) {
+        return buildEntry(parse(xmlData));
+    }
 
-            // <hw>
-            if (document.getElementsByTagName("hw").getLength() > 0) {
-                String hwRaw = document.getElementsByTagName("hw").item(0).getTextContent();
-                String hwClean = normalizeHeadword(hwRaw);
-                entry.setHeadWord(hwClean);
-            }
+    private DictionaryEntry buildEntry(Document document) {
+        DictionaryEntry entry = new DictionaryEntry();
+
+        // <ent>
+        if (document.getElementsByTagName("ent").getLength() > 0) {
+            String entTokenValue = document.getElementsByTagName("ent").item(0).getTextContent()
+                    .replaceAll("\n", " ")
+                    .trim();
+                    //.toLowerCase(Locale.ENGLISH);
+            entry.setEntryWord(entTokenValue);
+        } else {
+            // no entry available, just return from here
+            return null;
+        }
 
+        // <hw>
+        if (document.getElementsByTagName("hw").getLength() > 0) {
+            String hwRaw = document.getElementsByTagName("hw").item(0).getTextContent();
+            String hwClean = normalizeHeadword(hwRaw);
+            entry.setHeadWord(hwClean);
+        }
 
-            // <def>
-            if (document.getElementsByTagName("def").getLength() > 0) {
 
-                String defTokenValue = document.getElementsByTagName("def").item(0).getTextContent().replaceAll("\n", " ").trim();
+        // <def>
+        if (document.getElementsByTagName("def").getLength() > 0) {
 
-                // Clean known XML-like artifacts
-                defTokenValue = defTokenValue.replaceAll("\\{ldquo/\\}", "\"");
-                defTokenValue = defTokenValue.replaceAll("\\{rdquo/\\}", "\"");
+            String defTokenValue = document.getElementsByTagName("def").item(0).getTextContent().replaceAll("\n", " ").trim();
 
-                Definition definition = new Definition();
-                definition.setDefinition(defTokenValue);
+            // Clean known XML-like artifacts
+            defTokenValue = defTokenValue.replaceAll("\\{ldquo/\\}", "\"");
+            defTokenValue = defTokenValue.replaceAll("\\{rdquo/\\}", "\"");
 
-                // <source>
-                if (document.getElementsByTagName("source").getLength() > 0) {
-                    String sourceTokenValue = document.getElementsByTagName("source").item(0).getTextContent()
-                            .replaceAll("\n", " ");
-                    definition.setSource(sourceTokenValue);
-                }
+            Definition definition = new Definition();
+            definition.setDefinition(expanded(defTokenValue));
 
-                entry.getDefinitions().add(definition);
+            // <source>
+            if (document.getElementsByTagName("source").getLength() > 0) {
+                String sourceTokenValue = document.getElementsByTagName("source").item(0).getTextContent()
+                        .replaceAll("\n", " ");
+                definition.setSource(expanded(sourceTokenValue));
             }
 
-            // <ety>
-            if (document.getElementsByTagName("ety").getLength() > 0) {
-                String etyTokenValue = document.getElementsByTagName("ety").item(0).getTextContent().replaceAll("\n", " ").trim();
-                entry.setEtymology(etyTokenValue);
-            }
+            entry.getDefinitions().add(definition);
+        }
 
-            // <pos>
-            NodeList posNodes = document.getElementsByTagName("pos");
+        // <ety>
+        if (document.getElementsByTagName("ety").getLength() > 0) {
+            String etyTokenValue = document.getElementsByTagName("ety").item(0).getTextContent().replaceAll("\n", " ").trim();
+            entry.setEtymology(etyTokenValue);
+        }
 
-            for (int i = 0; i < posNodes.getLength(); i++) {
-                Node posNode = posNodes.item(i);
+        // <pos>
+        NodeList posNodes = document.getElementsByTagName("pos");
 
-                // Skip if this <pos> is inside a <def> tag
-                if (isInsideDef(posNode)) {
-                    continue;
-                }
+        for (int i = 0; i < posNodes.getLength(); i++) {
+            Node posNode = posNodes.item(i);
 
-                String posTokenValue = posNode.getTextContent().replaceAll("\n", " ");
-                List<String> posAbbrList = List.of(posTokenValue.split("&"));
-                posAbbrList.forEach(abbr -> {
-                    String mapped = Abbreviations.ABBREVIATION_MAP.get(abbr.trim());
-                    if (mapped != null) {
-                        entry.getPartsOfSpeech().add(mapped);
-                    }
-                });
+            // Skip if this <pos> is inside a <def> tag
+            if (isInsideDef(posNode)) {
+                continue;
             }
 
-            // <syn>
-            if (document.getElementsByTagName("syn").getLength() > 0) {
-                String synTokenValue = document.getElementsByTagName("syn").item(0).getTextContent().replaceAll("\n",
-                        " ");
+            String posTokenValue = posNode.getTextContent().replace('\n', ' ');
+            entry.getPartsOfSpeech().addAll(AbbreviationMatcher.CIDE.expansions(posTokenValue));
+        }
 
-                // ignore Syn. --
-                synTokenValue = synTokenValue.replaceAll("Syn. --[ ]*", "");
+        // <syn>
+        if (document.getElementsByTagName("syn").getLength() > 0) {
+            String synTokenValue = document.getElementsByTagName("syn").item(0).getTextContent().replaceAll("\n",
+                    " ");
 
-                entry.getSynonym().getSynonymList().addAll(List.of(synTokenValue.split(",")));
-            }
+            // ignore Syn. --
+            synTokenValue = synTokenValue.replaceAll("Syn. --[ ]*", "");
 
-            // <vmorph>
-            if (document.getElementsByTagName("vmorph").getLength() > 0) {
-
-                Element vmorphTag = (Element) document.getElementsByTagName("vmorph").item(0);
-
-                for (int i = 0; i < vmorphTag.getElementsByTagName("conjf").getLength(); i++) {
-                    VerbMorphologyEntry morphologyEntry = new VerbMorphologyEntry();
-                    morphologyEntry.setConjugatedForm(vmorphTag.getElementsByTagName("conjf").item(i).getTextContent());
-                    if (vmorphTag.getElementsByTagName("pos").getLength() > i) {
-                        String posTokenValue2 = vmorphTag.getElementsByTagName("pos").item(i).getTextContent()
-                                .replaceAll("\n", " ");
-                        List<String> posAbbrList2 = List.of(posTokenValue2.split("&"));
-                        posAbbrList2.forEach(abbr -> morphologyEntry.getPartsOfSpeech()
-                                .add(Abbreviations.ABBREVIATION_MAP.get(abbr.trim())));
-                    }
-                    entry.getVerbMorphologyEntries().add(morphologyEntry);
-                }
-            }
+            entry.getSynonym().getSynonymList().addAll(List.of(synTokenValue.split(",")));
+        }
 
-            return entry;
+        // <vmorph>
+        if (document.getElementsByTagName("vmorph").getLength() > 0) {
 
-        } catch (ParserConfigurationException | IOException | SAXException e) {
-            LOG.error(xmlData);
-            throw new XmlParserException(e.getMessage(), e);
+            Element vmorphTag = (Element) document.getElementsByTagName("vmorph").item(0);
+
+            for (int i = 0; i < vmorphTag.getElementsByTagName("conjf").getLength(); i++) {
+                VerbMorphologyEntry morphologyEntry = new VerbMorphologyEntry();
+                morphologyEntry.setConjugatedForm(vmorphTag.getElementsByTagName("conjf").item(i).getTextContent());
+                if (vmorphTag.getElementsByTagName("pos").getLength() > i) {
+                    String posTokenValue2 = vmorphTag.getElementsByTagName("pos").item(i).getTextContent()
+                            .replace('\n', ' ');
+                    morphologyEntry.getPartsOfSpeech().addAll(AbbreviationMatcher.CIDE.expansions(posTokenValue2));
+                }
+                entry.getVerbMorphologyEntries().add(morphologyEntry);
+            }
         }
+
+        return entry;
     }
 
     @Override
     public void parseQuote(final String xmlData, final DictionaryEntry entry) {
-        try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setIgnoringComments(true); // Ignore comments
-            factory.setExpandEntityReferences(false); // Prevent entity expansion
-
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document document = builder.parse(new org.xml.sax.InputSource(new java.io.StringReader(xmlData)));
-            document.getDocumentElement().normalize();
-
-            if (document.getElementsByTagName("q").getLength() > 0) {
-                String quoteTagValue = document.getElementsByTagName("q").item(0).getTextContent().trim();
+        Quote quote = buildQuote(parse(xmlData));
+        if (quote != null) {
+            entry.getQuotes().add(quote);
+        }
+    }
 
-                Quote quote = new Quote();
-                quote.setText(quoteTagValue);
+    @Override
+    public void parseMoreDefinition(final String xmlData, final DictionaryEntry entry) {
+        Definition definition = buildMoreDefinition(parse(xmlData));
+        if (definition != null) {
+            entry.getDefinitions().add(definition);
+        }
+    }
 
-                if (document.getElementsByTagName("qau").getLength() > 0) {
-                    String authorValue = document.getElementsByTagName("qau").item(0).getTextContent()
-                            .replaceAll("\n", " ").trim();
-                    quote.setAuthor(authorValue);
-                }
+    @Override
+    public void parseMoreSynonyms(final String xmlData, final DictionaryEntry entry) {
+        Document document = parse(xmlData);
+        ParsedBlock.continuation(null, null, buildMoreSynonyms(document), buildSynonymSource(document))
+                .attachTo(entry);
+    }
 
-                if (document.getElementsByTagName("source").getLength() > 0) {
-                    String sourceValue = document.getElementsByTagName("source").item(0).getTextContent()
-                            .replaceAll("\n", " ").trim();
-                    quote.setSource(sourceValue);
-                }
+    @Override
+    public ParsedBlock parseBlock(String xmlData) {
+        Document document = parse(xmlData);
 
-                entry.getQuotes().add(quote);
-            }
-        } catch (ParserConfigurationException | IOException | SAXException e) {
-            LOG.error(xmlData);
-            throw new XmlParserException(e.getMessage(), e);
+        DictionaryEntry entry = buildEntry(document);
+        if (entry != null) {
+            return ParsedBlock.entry(entry);
         }
+        return ParsedBlock.continuation(buildQuote(document), buildMoreDefinition(document),
+                buildMoreSynonyms(document), buildSynonymSource(document));
     }
 
-    @Override
-    public void parseMoreDefinition(final String xmlData, final DictionaryEntry entry) {
+    private Document parse(String xmlData) {
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setIgnoringComments(true); // Ignore comments
-            factory.setExpandEntityReferences(false); // Prevent entity expansion
-
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = DOCUMENT_BUILDER.get();
+            builder.reset();
             Document document = builder.parse(new org.xml.sax.InputSource(new java.io.StringReader(xmlData)));
             document.getDocumentElement().normalize();
-
-            if (document.getElementsByTagName("sn").getLength() > 0) {
-                if (document.getElementsByTagName("def").getLength() > 0) {
-                    Definition definition = new Definition();
-                    definition.setDefinition(
-                            document.getElementsByTagName("def").item(0).getTextContent()
-                                    .replaceAll("\n", " ")
-                                    .trim());
-
-                    if (document.getElementsByTagName("mark").getLength() > 0) {
-                        definition.setMark(
-                                document.getElementsByTagName("mark").item(0).getTextContent()
-                                        .replaceAll("\n", " ")
-                                        .trim());
-                    }
-
-                    if (document.getElementsByTagName("source").getLength() > 0) {
-                        definition.setSource(
-                                document.getElementsByTagName("source").item(0).getTextContent()
-                                        .replaceAll("\n", " ")
-                                        .trim());
-                    }
-
-                    definition.setDefinition(definition.getDefinition().replaceAll("\\{ldquo/\\}", "\""));
-                    definition.setDefinition(definition.getDefinition().replaceAll("\\{rdquo/\\}", "\""));
-
-                    entry.getDefinitions().add(definition);
-                }
-            }
-        } catch (ParserConfigurationException | IOException | SAXException e) {
+            return document;
+        } catch (IOException | SAXException e) {
             LOG.error(xmlData);
             throw new XmlParserException(e.getMessage(), e);
         }
     }
 
-    @Override
-    public void parseMoreSynonyms(final String xmlData, final DictionaryEntry entry) {
-        try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setIgnoringComments(true); // Ignore comments
-            factory.setExpandEntityReferences(false); // Prevent entity expansion
+    private Quote buildQuote(Document document) {
+        if (document.getElementsByTagName("q").getLength() == 0) {
+            return null;
+        }
+        String quoteTagValue = document.getElementsByTagName("q").item(0).getTextContent().trim();
 
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document document = builder.parse(new org.xml.sax.InputSource(new java.io.StringReader(xmlData)));
-            document.getDocumentElement().normalize();
+        Quote quote = new Quote();
+        quote.setText(quoteTagValue);
 
-            if (document.getElementsByTagName("syn").getLength() > 0) {
-                String synTokenValue = document.getElementsByTagName("syn").item(0).getTextContent()
-                        .replaceAll("\n", " ");
+        if (document.getElementsByTagName("qau").getLength() > 0) {
+            String authorValue = document.getElementsByTagName("qau").item(0).getTextContent()
+                    .replaceAll("\n", " ").trim();
+            quote.setAuthor(authorValue);
+        }
 
-                // ignore Syn. --
-                synTokenValue = synTokenValue.replaceAll("Syn. -- ", "")
-                        .replaceAll("\\.", "");
+        if (document.getElementsByTagName("source").getLength() > 0) {
+            String sourceValue = document.getElementsByTagName("source").item(0).getTextContent()
+                    .replaceAll("\n", " ").trim();
+            quote.setSource(expanded(sourceValue));
+        }
 
-                entry.getSynonym().getSynonymList().addAll(List.of(synTokenValue.split("; ")));
+        return quote;
+    }
 
-                if (document.getElementsByTagName("source").getLength() > 0) {
-                    entry.getSynonym().setSource(document.getElementsByTagName("source").item(0)
-                            .getTextContent().trim());
-                }
-            }
-        } catch (ParserConfigurationException | IOException | SAXException e) {
-            LOG.error(xmlData);
-            throw new XmlParserException(e.getMessage(), e);
+    private Definition buildMoreDefinition(Document document) {
+        if (document.getElementsByTagName("sn").getLength() == 0
+                || document.getElementsByTagName("def").getLength() == 0) {
+            return null;
+        }
+        Definition definition = new Definition();
+        definition.setDefinition(
+                document.getElementsByTagName("def").item(0).getTextContent()
+                        .replaceAll("\n", " ")
+                        .trim());
+
+        if (document.getElementsByTagName("mark").getLength() > 0) {
+            definition.setMark(expanded(
+                    document.getElementsByTagName("mark").item(0).getTextContent()
+                            .replaceAll("\n", " ")
+                            .trim()));
+        }
+
+        if (document.getElementsByTagName("source").getLength() > 0) {
+            definition.setSource(expanded(
+                    document.getElementsByTagName("source").item(0).getTextContent()
+                            .replaceAll("\n", " ")
+                            .trim()));
         }
+
+        definition.setDefinition(definition.getDefinition().replaceAll("\\{ldquo/\\}", "\""));
+        definition.setDefinition(definition.getDefinition().replaceAll("\\{rdquo/\\}", "\""));
+        definition.setDefinition(expanded(definition.getDefinition()));
+
+        return definition;
+    }
+
+    private List<String> buildMoreSynonyms(Document document) {
+        if (document.getElementsByTagName("syn").getLength() == 0) {
+            return null;
+        }
+        String synTokenValue = document.getElementsByTagName("syn").item(0).getTextContent()
+                .replaceAll("\n", " ");
+
+        // ignore Syn. --
+        synTokenValue = synTokenValue.replaceAll("Syn. -- ", "")
+                .replaceAll("\\.", "");
+
+        return List.of(synTokenValue.split("; "));
+    }
+
+    private String buildSynonymSource(Document document) {
+        if (document.getElementsByTagName("syn").getLength() == 0
+                || document.getElementsByTagName("source").getLength() == 0) {
+            return null;
+        }
+        return expanded(document.getElementsByTagName("source").item(0).getTextContent().trim());
+    }
+
+    /**
+     * Expand the abbreviations of a definition, mark or source when dictionary.expand-abbreviations is set.
+     */
+    private String expanded(String text) {
+        return expandAbbreviations ? AbbreviationMatcher.CIDE.expand(text) : text;
     }
 
-    private String normalizeHeadword(String rawHeadword) {
+    /**
+     * @return Returns the &lt;hw&gt; text with the CIDE syllable and accent marks replaced by "·", and the
+     * whitespace collapsed
+     */
+    public static String normalizeHeadword(String rawHeadword) {
         return rawHeadword
                 .replace("\\\"", "\"")  // in case of escape chars
                 .replace("\"", "·")
@@ -299,6 +320,4 @@ public class XmlParserDOMImpl implements XmlParser {
         }
         return false;
     }
-    
-    
 }
@@ -0,0 +1,381 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.parser;
+
+import cc.suvankar.dictionaryapi.exceptions.XmlParserException;
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.models.Quote;
+import cc.suvankar.dictionaryapi.models.VerbMorphologyEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link XmlParser} backed by a pull parser. Each &lt;p&gt; block is read in a single forward pass and
+ * only the text of the tags the dictionary model needs is kept; no DOM tree is built.
+ * <p>
+ * The output is identical to {@link XmlParserDOMImpl}: "first tag" means the first start tag in
+ * document order, exactly like {@code getElementsByTagName(..).item(0)}.
+ */
+@Component("xmlParserStAXImpl")
+@ConditionalOnProperty(name = "dictionary.parser", havingValue = "stax")
+public class XmlParserStAXImpl implements XmlParser {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(XmlParserStAXImpl.class);
+
+    /**
+     * Tags whose first occurrence is captured as text.
+     */
+    private static final Set<String> FIRST_TEXT_TAGS = Set.of(
+            "ent", "hw", "def", "source", "ety", "syn", "q", "qau", "mark", "sn");
+
+    // configured once, createXMLStreamReader() is safe to call from several threads
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    @Value("${dictionary.expand-abbreviations:false}")
+    private boolean expandAbbreviations;
+
+    @Override
+    public DictionaryEntry parseDefinition(String xmlData) {
+        return buildEntry(capture(xmlData));
+    }
+
+    private DictionaryEntry buildEntry(BlockCapture block) {
+        // <ent>
+        if (!block.has("ent")) {
+            // no entry available, just return from here
+            return null;
+        }
+
+        DictionaryEntry entry = new DictionaryEntry();
+        entry.setEntryWord(block.text("ent").replaceAll("\n", " ").trim());
+
+        // <hw>
+        if (block.has("hw")) {
+            entry.setHeadWord(XmlParserDOMImpl.normalizeHeadword(block.text("hw")));
+        }
+
+        // <def>
+        if (block.has("def")) {
+            String defTokenValue = block.text("def").replaceAll("\n", " ").trim();
+
+            // Clean known XML-like artifacts
+            defTokenValue = defTokenValue.replaceAll("\\{ldquo/\\}", "\"");
+            defTokenValue = defTokenValue.replaceAll("\\{rdquo/\\}", "\"");
+
+            Definition definition = new Definition();
+            definition.setDefinition(expanded(defTokenValue));
+
+            // <source>
+            if (block.has("source")) {
+                definition.setSource(expanded(block.text("source").replaceAll("\n", " ")));
+            }
+
+            entry.getDefinitions().add(definition);
+        }
+
+        // <ety>
+        if (block.has("ety")) {
+            entry.setEtymology(block.text("ety").replaceAll("\n", " ").trim());
+        }
+
+        // <pos>, except the ones inside <def>
+        for (String posTokenValue : block.pos) {
+            entry.getPartsOfSpeech().addAll(AbbreviationMatcher.CIDE.expansions(posTokenValue.replace('\n', ' ')));
+        }
+
+        // <syn>
+        if (block.has("syn")) {
+            String synTokenValue = block.text("syn").replaceAll("\n", " ");
+
+            // ignore Syn. --
+            synTokenValue = synTokenValue.replaceAll("Syn. --[ ]*", "");
+
+            entry.getSynonym().getSynonymList().addAll(List.of(synTokenValue.split(",")));
+        }
+
+        // <vmorph>
+        for (int i = 0; i < block.conjugatedForms.size(); i++) {
+            VerbMorphologyEntry morphologyEntry = new VerbMorphologyEntry();
+            morphologyEntry.setConjugatedForm(block.conjugatedForms.get(i));
+            if (block.vmorphPos.size() > i) {
+                String posTokenValue2 = block.vmorphPos.get(i).replace('\n', ' ');
+                morphologyEntry.getPartsOfSpeech().addAll(AbbreviationMatcher.CIDE.expansions(posTokenValue2));
+            }
+            entry.getVerbMorphologyEntries().add(morphologyEntry);
+        }
+
+        return entry;
+    }
+
+    @Override
+    public void parseQuote(final String xmlData, final DictionaryEntry entry) {
+        Quote quote = buildQuote(capture(xmlData));
+        if (quote != null) {
+            entry.getQuotes().add(quote);
+        }
+    }
+
+    @Override
+    public void parseMoreDefinition(final String xmlData, final DictionaryEntry entry) {
+        Definition definition = buildMoreDefinition(capture(xmlData));
+        if (definition != null) {
+            entry.getDefinitions().add(definition);
+        }
+    }
+
+    @Override
+    public void parseMoreSynonyms(final String xmlData, final DictionaryEntry entry) {
+        BlockCapture block = capture(xmlData);
+        ParsedBlock.continuation(null, null, buildMoreSynonyms(block), buildSynonymSource(block))
+                .attachTo(entry);
+    }
+
+    @Override
+    public ParsedBlock parseBlock(String xmlData) {
+        BlockCapture block = capture(xmlData);
+
+        DictionaryEntry entry = buildEntry(block);
+        if (entry != null) {
+            return ParsedBlock.entry(entry);
+        }
+        return ParsedBlock.continuation(buildQuote(block), buildMoreDefinition(block),
+                buildMoreSynonyms(block), buildSynonymSource(block));
+    }
+
+    private Quote buildQuote(BlockCapture block) {
+        if (!block.has("q")) {
+            return null;
+        }
+        Quote quote = new Quote();
+        quote.setText(block.text("q").trim());
+
+        if (block.has("qau")) {
+            quote.setAuthor(block.text("qau").replaceAll("\n", " ").trim());
+        }
+
+        if (block.has("source")) {
+            quote.setSource(expanded(block.text("source").replaceAll("\n", " ").trim()));
+        }
+
+        return quote;
+    }
+
+    private Definition buildMoreDefinition(BlockCapture block) {
+        if (!block.has("sn") || !block.has("def")) {
+            return null;
+        }
+        Definition definition = new Definition();
+        definition.setDefinition(block.text("def").replaceAll("\n", " ").trim());
+
+        if (block.has("mark")) {
+            definition.setMark(expanded(block.text("mark").replaceAll("\n", " ").trim()));
+        }
+
+        if (block.has("source")) {
+            definition.setSource(expanded(block.text("source").replaceAll("\n", " ").trim()));
+        }
+
+        definition.setDefinition(definition.getDefinition().replaceAll("\\{ldquo/\\}", "\""));
+        definition.setDefinition(definition.getDefinition().replaceAll("\\{rdquo/\\}", "\""));
+        definition.setDefinition(expanded(definition.getDefinition()));
+
+        return definition;
+    }
+
+    private List<String> buildMoreSynonyms(BlockCapture block) {
+        if (!block.has("syn")) {
+            return null;
+        }
+        String synTokenValue = block.text("syn").replaceAll("\n", " ");
+
+        // ignore Syn. --
+        synTokenValue = synTokenValue.replaceAll("Syn. -- ", "")
+                .replaceAll("\\.", "");
+
+        return List.of(synTokenValue.split("; "));
+    }
+
+    private String buildSynonymSource(BlockCapture block) {
+        if (!block.has("syn") || !block.has("source")) {
+            return null;
+        }
+        return expanded(block.text("source").trim());
+    }
+
+    /**
+     * Expand the abbreviations of a definition, mark or source when dictionary.expand-abbreviations is set.
+     */
+    private String expanded(String text) {
+        return expandAbbreviations ? AbbreviationMatcher.CIDE.expand(text) : text;
+    }
+
+    /**
+     * Walk the block once and collect the text of every tag the model is built from.
+     */
+    private BlockCapture capture(String xmlData) {
+        BlockCapture block = new BlockCapture();
+        List<Capture> open = new ArrayList<>();
+        int depth = 0;
+        int defDepth = 0;
+        int vmorphDepth = -1;
+        boolean vmorphSeen = false;
+
+        XMLStreamReader reader = null;
+        try {
+            reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(xmlData));
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        depth++;
+                        String tag = reader.getLocalName();
+
+                        if (FIRST_TEXT_TAGS.contains(tag) && block.started.add(tag)) {
+                            open.add(new Capture(tag, depth, null));
+                        }
+                        if (tag.equals("pos") && defDepth == 0) {
+                            open.add(new Capture(tag, depth, block.pos));
+                        }
+                        if (vmorphDepth > 0) {
+                            if (tag.equals("conjf")) {
+                                open.add(new Capture(tag, depth, block.conjugatedForms));
+                            } else if (tag.equals("pos")) {
+                                open.add(new Capture(tag, depth, block.vmorphPos));
+                            }
+                        }
+                        if (tag.equals("vmorph") && !vmorphSeen) {
+                            vmorphSeen = true;
+                            vmorphDepth = depth;
+                        }
+                        if (tag.equalsIgnoreCase("def")) {
+                            defDepth++;
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        String tag = reader.getLocalName();
+                        for (int i = open.size() - 1; i >= 0; i--) {
+                            Capture capture = open.get(i);
+                            if (capture.depth == depth) {
+                                capture.close(block);
+                                open.remove(i);
+                            }
+                        }
+                        if (depth == vmorphDepth) {
+                            vmorphDepth = -1;
+                        }
+                        if (tag.equalsIgnoreCase("def")) {
+                            defDepth--;
+                        }
+                        depth--;
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                        if (!open.isEmpty()) {
+                            String text = reader.getText();
+                            for (Capture capture : open) {
+                                capture.text.append(text);
+                            }
+                        }
+                    }
+                    default -> {
+                        // comments and processing instructions are not part of the text content
+                    }
+                }
+            }
+            return block;
+        } catch (XMLStreamException e) {
+            LOG.error(xmlData);
+            throw new XmlParserException(e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    LOG.warn("Unable to close XML stream reader: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false); // same as the DOM parser
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Text collected from one block.
+     */
+    private static final class BlockCapture {
+        private final Set<String> started = new HashSet<>();
+        private final Map<String, String> firstText = new HashMap<>();
+        private final List<String> pos = new ArrayList<>();
+        private final List<String> conjugatedForms = new ArrayList<>();
+        private final List<String> vmorphPos = new ArrayList<>();
+
+        private boolean has(String tag) {
+            return started.contains(tag);
+        }
+
+        private String text(String tag) {
+            return firstText.get(tag);
+        }
+    }
+
+    /**
+     * An element whose text content is being collected.
+     */
+    private static final class Capture {
+        private final String tag;
+        private final int depth;
+        private final List<String> sink;
+        private final StringBuilder text = new StringBuilder();
+
+        private Capture(String tag, int depth, List<String> sink) {
+            this.tag = tag;
+            this.depth = depth;
+            this.sink = sink;
+        }
+
+        private void close(BlockCapture block) {
+            if (sink != null) {
+                sink.add(text.toString());
+            } else {
+                block.firstText.put(tag, text.toString());
+            }
+        }
+    }
+}
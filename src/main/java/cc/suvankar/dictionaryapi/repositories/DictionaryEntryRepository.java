@@ -28,21 +28,54 @@ import java.util.List;
 @Repository
 public interface DictionaryEntryRepository extends JpaRepository<DictionaryEntry, Long> {
 
-    @Query("SELECT e FROM DictionaryEntry e WHERE lower(e.entryWord) = :entryWord")
-    List<DictionaryEntry> findByEntryWordIgnoreCase(@Param("entryWord") String entryWord);
+    // the keys are LookupKeys.normalize of the words, compared as is so that the indexes are used
+    @Query("SELECT e FROM DictionaryEntry e WHERE e.entryWordKey = :entryWordKey")
+    List<DictionaryEntry> findByEntryWordKey(@Param("entryWordKey") String entryWordKey);
 
     @Query("SELECT e FROM DictionaryEntry e WHERE e.entryWord = :entryWord")
     List<DictionaryEntry> findByEntryWord(String entryWord);
 
-    @Query("SELECT e FROM DictionaryEntry e WHERE lower(e.entryWord) LIKE %:entryWord%")
-    List<DictionaryEntry> findByEntryWordContaining(@Param("entryWord") String entryWord);
+    @Query("SELECT e FROM DictionaryEntry e WHERE e.entryWordKey LIKE %:entryWordKey%")
+    List<DictionaryEntry> findByEntryWordKeyContaining(@Param("entryWordKey") String entryWordKey);
 
-    @Query("SELECT CASE WHEN COUNT(e) > 0 THEN true ELSE false END FROM DictionaryEntry e WHERE LOWER(e.entryWord) = LOWER(:entryWord)")
-    boolean existsByEntryWord(String entryWord);
+    @Query("SELECT CASE WHEN COUNT(e) > 0 THEN true ELSE false END FROM DictionaryEntry e WHERE e.entryWordKey = :entryWordKey")
+    boolean existsByEntryWordKey(@Param("entryWordKey") String entryWordKey);
 
     @Query("SELECT COUNT(e) FROM DictionaryEntry e")
     long countTotalEntries();
 
-    @Query("SELECT e FROM DictionaryEntry e JOIN e.verbMorphologyEntries v WHERE lower(v.conjugatedForm) = :word")
-    List<DictionaryEntry> findByVerbMorphologyEntry(@Param("word") String word);
+    @Query("SELECT e FROM DictionaryEntry e JOIN e.verbMorphologyEntries v WHERE v.conjugatedFormKey = :conjugatedFormKey")
+    List<DictionaryEntry> findByConjugatedFormKey(@Param("conjugatedFormKey") String conjugatedFormKey);
+
+    /**
+     * The entries of a word in one statement: those with the word as entry word, then those with the word
+     * as a conjugated form, once per matching form, as findByEntryWordKey followed by findByConjugatedFormKey.
+     * The collections of the entries are batch fetched, see {@link DictionaryEntry}.
+     */
+    @Query("SELECT e FROM DictionaryEntry e WHERE e.entryWordKey = :key "
+            + "UNION ALL SELECT e FROM DictionaryEntry e JOIN e.verbMorphologyEntries v WHERE v.conjugatedFormKey = :key")
+    List<DictionaryEntry> findByLookupKey(@Param("key") String key);
+
+    @Query("SELECT COUNT(e) FROM DictionaryEntry e WHERE e.sourceFile = :sourceFile")
+    long countBySourceFile(@Param("sourceFile") String sourceFile);
+
+    @Query("SELECT e.id AS id, e.entryWord AS entryWord, e.headWord AS headWord, e.entryOrdinal AS entryOrdinal, "
+            + "e.contentHash AS contentHash FROM DictionaryEntry e WHERE e.sourceFile = :sourceFile")
+    List<StoredKey> findKeysBySourceFile(@Param("sourceFile") String sourceFile);
+
+    /**
+     * Natural key and content hash of a stored entry, without loading the entry.
+     */
+    interface StoredKey {
+        Long getId();
+
+        String getEntryWord();
+
+        String getHeadWord();
+
+        Integer getEntryOrdinal();
+
+        String getContentHash();
+    }
+
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.repositories;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import cc.suvankar.dictionaryapi.data.IngestionManifest;
+
+@Repository
+public interface IngestionManifestRepository extends JpaRepository<IngestionManifest, Long> {
+    Optional<IngestionManifest> findByFileName(String fileName);
+
+    // plain UPDATE, so that on SQLite the transaction starts with a write and waits for the lock
+    @Transactional
+    @Modifying
+    @Query("UPDATE IngestionManifest m SET m.status = :status, m.entryCount = :entryCount, m.completedAt = :completedAt WHERE m.fileName = :fileName")
+    int updateStatus(@Param("fileName") String fileName, @Param("status") IngestionManifest.Status status,
+            @Param("entryCount") long entryCount, @Param("completedAt") Instant completedAt);
+}
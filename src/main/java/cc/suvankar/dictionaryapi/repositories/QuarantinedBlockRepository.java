@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import cc.suvankar.dictionaryapi.data.QuarantinedBlock;
+
+@Repository
+public interface QuarantinedBlockRepository extends JpaRepository<QuarantinedBlock, Long> {
+    List<QuarantinedBlock> findAllByOrderByFileNameAscBlockOffsetAsc();
+
+    @Modifying
+    @Query("DELETE FROM QuarantinedBlock b WHERE b.fileName = :fileName")
+    int deleteByFileName(@Param("fileName") String fileName);
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.utils.BinaryDictionary;
+import cc.suvankar.dictionaryapi.utils.FileReaderUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Writes the {@link BinaryDictionary} served by {@link BinaryEntryLookup}, parsed straight from the CIDE
+ * files, without the database.
+ * <p>
+ * At startup the file is written again when it is missing or was written from other CIDE files.
+ */
+@Service
+@ConditionalOnProperty(name = "dictionary.lookup", havingValue = "binary")
+public class BinaryDictionaryExporter {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(BinaryDictionaryExporter.class);
+
+    private final XmlProcessor xmlProcessor;
+    private final BinaryEntryLookup binaryEntryLookup;
+
+    public BinaryDictionaryExporter(XmlProcessor xmlProcessor, BinaryEntryLookup binaryEntryLookup) {
+        this.xmlProcessor = xmlProcessor;
+        this.binaryEntryLookup = binaryEntryLookup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exportIfStale() {
+        try {
+            List<String> fileNames = FileReaderUtil.listFiles();
+            String sourceHash = sourceHash(fileNames);
+            if (sourceHash.equals(binaryEntryLookup.getSourceHash())) {
+                LOG.info("Binary dictionary {} is up to date.", binaryEntryLookup.getPath());
+                return;
+            }
+            export(binaryEntryLookup.getPath(), fileNames, sourceHash);
+            binaryEntryLookup.reload();
+        } catch (Exception e) {
+            LOG.error("Fatal error {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Parse the CIDE files and write their entries to a binary dictionary, in file order. Duplicates are
+     * dropped like by an import of the files, see {@link XmlProcessor#parseXml(String, java.util.function.Consumer)}.
+     * @param fileNames names of the files inside the GCIDE resource directory
+     * @param sourceHash hash of the files, see {@link #sourceHash(List)}
+     * @return Returns the number of entries written
+     */
+    public int export(Path file, List<String> fileNames, String sourceHash) throws IOException {
+        LOG.info("Writing the binary dictionary {} from {} files...", file, fileNames.size());
+        long start = System.nanoTime();
+        BinaryDictionary.Builder builder = BinaryDictionary.builder();
+        for (String fileName : fileNames) {
+            xmlProcessor.parseXml(fileName, builder::add);
+        }
+        builder.write(file, sourceHash);
+        LOG.info("Wrote {} entries to {} in {} ms.", builder.size(), file, (System.nanoTime() - start) / 1_000_000);
+        return builder.size();
+    }
+
+    /**
+     * @return Returns a SHA-256 over the names and contents of the files, hex encoded
+     */
+    public static String sourceHash(List<String> fileNames) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform has to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        for (String fileName : fileNames) {
+            digest.update((fileName + ':' + FileReaderUtil.contentHash(fileName) + '\n').getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
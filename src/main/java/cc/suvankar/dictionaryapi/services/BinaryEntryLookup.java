@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.utils.BinaryDictionary;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Looks the words up in a memory mapped {@link BinaryDictionary}, without the database. The file is
+ * written by {@link BinaryDictionaryExporter}, until then every word is reported as not found.
+ */
+@Component
+@ConditionalOnProperty(name = "dictionary.lookup", havingValue = "binary")
+public class BinaryEntryLookup implements EntryLookup {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(BinaryEntryLookup.class);
+
+    @Value("${dictionary.binary.path:dictionary.bin}")
+    private String path = "dictionary.bin";
+
+    private volatile BinaryDictionary dictionary;
+
+    @PostConstruct
+    void init() {
+        if (!Files.exists(getPath())) {
+            LOG.info("Binary dictionary {} does not exist yet.", getPath());
+            return;
+        }
+        try {
+            reload();
+        } catch (IOException e) {
+            // written again by the exporter
+            LOG.warn("Could not open the binary dictionary {}: {}", getPath(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        if (dictionary != null) {
+            dictionary.close();
+        }
+    }
+
+    @Override
+    public List<DictionaryEntry> findEntriesByWord(String word) {
+        BinaryDictionary current = dictionary;
+        return current == null ? List.of() : current.find(word);
+    }
+
+    public Path getPath() {
+        return Path.of(path);
+    }
+
+    /**
+     * @return Returns the hash of the CIDE files the served dictionary was written from, null if there is none
+     */
+    public String getSourceHash() {
+        BinaryDictionary current = dictionary;
+        return current == null ? null : current.getSourceHash();
+    }
+
+    /**
+     * Map the file again, after it was written. Lookups running meanwhile finish on the previous mapping.
+     */
+    public synchronized void reload() throws IOException {
+        BinaryDictionary previous = dictionary;
+        dictionary = BinaryDictionary.open(getPath());
+        LOG.info("Serving the binary dictionary {}, {} entries under {} words.", getPath(),
+                dictionary.getEntryCount(), dictionary.getKeyCount());
+        if (previous != null) {
+            previous.close();
+        }
+    }
+}
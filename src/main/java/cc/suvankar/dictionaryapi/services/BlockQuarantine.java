@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.data.QuarantinedBlock;
+import cc.suvankar.dictionaryapi.repositories.QuarantinedBlockRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The blocks the parser failed on, by file. Each parse of a file replaces the blocks of the file, so
+ * the quarantine always holds the failures of the last parse.
+ */
+@Service
+public class BlockQuarantine {
+
+    private final QuarantinedBlockRepository repository;
+
+    public BlockQuarantine(QuarantinedBlockRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Replace the quarantined blocks of the file.
+     * @param blocks the blocks the last parse of the file failed on, may be empty
+     */
+    @Transactional
+    public void replace(String fileName, List<QuarantinedBlock> blocks) {
+        repository.deleteByFileName(fileName);
+        repository.saveAll(blocks);
+    }
+
+    /**
+     * @return Returns the quarantined blocks by file, in file order
+     */
+    public List<QuarantinedBlock> findAll() {
+        return repository.findAllByOrderByFileNameAscBlockOffsetAsc();
+    }
+
+    /**
+     * Parse the quarantined blocks again, the blocks that still fail are updated with their new error.
+     * @param parseError the error a block fails to parse with, null when it parses
+     * @return Returns the files any quarantined block of which parses now. Importing such a file again
+     * recovers the entries of those blocks and replaces its quarantined blocks with the ones still failing.
+     */
+    @Transactional
+    public List<String> recheck(Function<String, String> parseError) {
+        Map<String, Boolean> recovered = new LinkedHashMap<>();
+        for (QuarantinedBlock block : findAll()) {
+            String error = parseError.apply(block.getBlock());
+            if (error != null) {
+                block.setError(error);
+            }
+            recovered.merge(block.getFileName(), error == null, Boolean::logicalOr);
+        }
+        List<String> fileNames = new ArrayList<>();
+        recovered.forEach((fileName, anyParses) -> {
+            if (anyParses) {
+                fileNames.add(fileName);
+            }
+        });
+        return fileNames;
+    }
+}
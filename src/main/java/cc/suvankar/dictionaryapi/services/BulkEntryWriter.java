@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.exceptions.BulkLoadException;
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.models.Quote;
+import cc.suvankar.dictionaryapi.models.VerbMorphologyEntry;
+import cc.suvankar.dictionaryapi.utils.EntryKeys;
+import cc.suvankar.dictionaryapi.utils.LookupKeys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the entries straight into the dictionary tables with the native bulk path of the database,
+ * bypassing JPA. Meant for first time imports: the whole import is one transaction on one connection,
+ * and ids are handed out here, after the highest id already in the tables.
+ * <p>
+ * Once the import is done the id sequences are moved past the loaded rows, the safe settings are
+ * restored and the tables are analyzed.
+ */
+@Component
+@ConditionalOnProperty(name = "dictionary.ingestion.mode", havingValue = "bulk")
+public class BulkEntryWriter implements EntryWriter {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(BulkEntryWriter.class);
+
+    // must match the allocationSize of the entities
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final DataSource dataSource;
+
+    private Connection connection;
+    private BulkLoader loader;
+    private final Map<BulkTable, Long> nextIds = new EnumMap<>(BulkTable.class);
+    private long entriesWritten;
+
+    public BulkEntryWriter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public synchronized void beforeImport() {
+        try {
+            connection = dataSource.getConnection();
+            String product = connection.getMetaData().getDatabaseProductName();
+            loader = switch (product) {
+                case "SQLite" -> new SqliteBulkLoader();
+                case "H2" -> new MultiRowBulkLoader();
+                default -> throw new BulkLoadException("No bulk load support for " + product);
+            };
+            LOG.info("Starting bulk load into {}.", product);
+
+            loader.begin(connection);
+            connection.setAutoCommit(false);
+
+            for (BulkTable table : BulkTable.values()) {
+                if (table.sequenceName() != null) {
+                    nextIds.put(table, maxId(table) + 1);
+                }
+            }
+            entriesWritten = 0;
+        } catch (SQLException e) {
+            close();
+            throw new BulkLoadException("Unable to start bulk load: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Insert the rows of the entries before returning, so that the loader never buffers rows of another
+     * file and a failed insert is reported to the file it belongs to. A batch is inserted entirely or not
+     * at all.
+     */
+    @Override
+    public synchronized int write(String sourceFile, List<DictionaryEntry> entries) {
+        if (connection == null) {
+            throw new BulkLoadException("Bulk load is not started");
+        }
+        Savepoint batch = null;
+        try {
+            batch = connection.setSavepoint();
+            for (DictionaryEntry entry : entries) {
+                addEntry(sourceFile, entry);
+            }
+            loader.flush(connection);
+            connection.releaseSavepoint(batch);
+            entriesWritten += entries.size();
+            return entries.size();
+        } catch (SQLException e) {
+            rollback(batch, e);
+            throw new BulkLoadException("Bulk load of " + entries.size() + " entries of " + sourceFile + " failed: "
+                    + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean commitsPerBatch() {
+        return false;
+    }
+
+    @Override
+    public synchronized void afterImport() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            loader.flush(connection);
+            for (Map.Entry<BulkTable, Long> nextId : nextIds.entrySet()) {
+                // the pooled optimizer hands out the block ending at the sequence value it reads first
+                loader.restartSequence(connection, nextId.getKey().sequenceName(), nextId.getValue() + ALLOCATION_SIZE);
+            }
+            connection.commit();
+            connection.setAutoCommit(true);
+            LOG.info("Bulk load committed {} entries.", entriesWritten);
+
+            loader.end(connection);
+            loader = null;
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException ex) {
+                e.addSuppressed(ex);
+            }
+            throw new BulkLoadException("Bulk load failed and was rolled back: " + e.getMessage(), e);
+        } finally {
+            close();
+        }
+    }
+
+    private void addEntry(String sourceFile, DictionaryEntry entry) throws SQLException {
+        long entryId = nextId(BulkTable.DICTIONARY_ENTRY);
+        loader.add(connection, BulkTable.DICTIONARY_ENTRY, entryId, entry.getEntryWord(), entry.getHeadWord(),
+                LookupKeys.normalize(entry.getEntryWord()), entry.getSynonym().getSource(), entry.getEtymology(), sourceFile, entry.getOrdinal(),
+                EntryKeys.contentHash(entry));
+
+        for (String partOfSpeech : entry.getPartsOfSpeech()) {
+            loader.add(connection, BulkTable.DICTIONARY_ENTRY_PARTS_OF_SPEECH, entryId, partOfSpeech);
+        }
+        for (String synonym : entry.getSynonym().getSynonymList()) {
+            loader.add(connection, BulkTable.SYNONYMS, entryId, synonym);
+        }
+        for (Definition definition : entry.getDefinitions()) {
+            loader.add(connection, BulkTable.DEFINITION, nextId(BulkTable.DEFINITION), entryId,
+                    definition.getMark(), definition.getSource(), definition.getDefinition());
+        }
+        for (Quote quote : entry.getQuotes()) {
+            loader.add(connection, BulkTable.QUOTE, nextId(BulkTable.QUOTE), entryId,
+                    quote.getAuthor(), quote.getSource(), quote.getText());
+        }
+        for (VerbMorphologyEntry verb : entry.getVerbMorphologyEntries()) {
+            long verbId = nextId(BulkTable.VERB_MORPHOLOGY_ENTRY);
+            loader.add(connection, BulkTable.VERB_MORPHOLOGY_ENTRY, verbId, entryId, verb.getConjugatedForm(),
+                    LookupKeys.normalize(verb.getConjugatedForm()));
+            for (String partOfSpeech : verb.getPartsOfSpeech()) {
+                loader.add(connection, BulkTable.VERB_MORPHOLOGY_ENTRY_PARTS_OF_SPEECH, verbId, partOfSpeech);
+            }
+        }
+    }
+
+    private void rollback(Savepoint batch, SQLException e) {
+        if (batch == null) {
+            return;
+        }
+        try {
+            connection.rollback(batch);
+        } catch (SQLException ex) {
+            e.addSuppressed(ex);
+        }
+    }
+
+    private long nextId(BulkTable table) {
+        return nextIds.merge(table, 1L, Long::sum) - 1;
+    }
+
+    private long maxId(BulkTable table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table.tableName())) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void close() {
+        if (connection != null) {
+            try {
+                if (loader != null) {
+                    connection.setAutoCommit(true);
+                    loader.end(connection);
+                }
+            } catch (Exception e) {
+                LOG.warn("Unable to restore settings after bulk load: {}", e.getMessage());
+            }
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOG.warn("Unable to close bulk load connection: {}", e.getMessage());
+            }
+        }
+        connection = null;
+        loader = null;
+        nextIds.clear();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Native fast path of one database engine for {@link BulkEntryWriter}. All methods are called with the
+ * writer's lock held, on the one connection of the import.
+ */
+interface BulkLoader {
+
+    /**
+     * Switch the connection to bulk load settings. Called before the import transaction starts.
+     */
+    void begin(Connection connection) throws SQLException;
+
+    /**
+     * Add a row, in the column order of the table.
+     */
+    void add(Connection connection, BulkTable table, Object... row) throws SQLException;
+
+    /**
+     * Write whatever is still buffered. Called inside the import transaction. The buffered rows are dropped
+     * also when this fails.
+     */
+    void flush(Connection connection) throws SQLException;
+
+    /**
+     * Make the next id handed out by the sequence the given one.
+     */
+    void restartSequence(Connection connection, String sequenceName, long nextValue) throws SQLException;
+
+    /**
+     * Restore the settings changed by {@link #begin(Connection)}. Called after the import transaction.
+     */
+    void end(Connection connection) throws SQLException;
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import java.util.List;
+
+/**
+ * The dictionary tables as written by the bulk loaders, in foreign key order. Must match the JPA
+ * mapping of the data package and schema-h2.sql / schema-sqlite.sql.
+ */
+enum BulkTable {
+    DICTIONARY_ENTRY("dictionary_entry", "dictionary_entry_seq",
+            "id", "entry_word", "head_word", "entry_word_key", "source", "etymology", "source_file",
+            "entry_ordinal", "content_hash"),
+    DICTIONARY_ENTRY_PARTS_OF_SPEECH("dictionary_entry_parts_of_speech", null,
+            "dictionary_entry_id", "parts_of_speech"),
+    SYNONYMS("synonyms", null,
+            "dictionary_entry_id", "synonym"),
+    DEFINITION("definition", "definition_seq",
+            "id", "dictionary_entry_id", "mark", "source", "definition"),
+    QUOTE("quote", "quote_seq",
+            "id", "dictionary_entry_id", "author", "source", "text"),
+    VERB_MORPHOLOGY_ENTRY("verb_morphology_entry", "verb_morphology_entry_seq",
+            "id", "dictionary_entry_id", "conjugated_form", "conjugated_form_key"),
+    VERB_MORPHOLOGY_ENTRY_PARTS_OF_SPEECH("verb_morphology_entry_parts_of_speech", null,
+            "verb_morphology_entry_id", "parts_of_speech");
+
+    private final String tableName;
+    private final String sequenceName;
+    private final List<String> columns;
+
+    BulkTable(String tableName, String sequenceName, String... columns) {
+        this.tableName = tableName;
+        this.sequenceName = sequenceName;
+        this.columns = List.of(columns);
+    }
+
+    String tableName() {
+        return tableName;
+    }
+
+    /**
+     * @return Returns the sequence the JPA entity takes its ids from, null for element collections
+     */
+    String sequenceName() {
+        return sequenceName;
+    }
+
+    List<String> columns() {
+        return columns;
+    }
+
+    String columnList() {
+        return String.join(", ", columns);
+    }
+}
@@ -18,11 +18,15 @@
 package cc.suvankar.dictionaryapi.services;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import cc.suvankar.dictionaryapi.data.UserPrincipal;
 import cc.suvankar.dictionaryapi.data.Users;
 import cc.suvankar.dictionaryapi.repositories.UserRepository;
@@ -33,8 +37,18 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    // a read only database can not store users, they are kept in memory until the application stops
+    @Value("${dictionary.read-only:false}")
+    private boolean readOnly;
+
+    private final Map<String, Users> inMemoryUsers = new ConcurrentHashMap<>();
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        Users inMemoryUser = inMemoryUsers.get(username);
+        if (inMemoryUser != null) {
+            return new UserPrincipal(inMemoryUser);
+        }
         Users user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Username not found"));
 
@@ -42,6 +56,10 @@ public class CustomUserDetailsService implements UserDetailsService {
     }
 
     public Users saveUser(Users user) {
+        if (readOnly) {
+            inMemoryUsers.put(user.getUsername(), user);
+            return user;
+        }
         return userRepository.save(user);
     }
 
@@ -19,63 +19,237 @@ package cc.suvankar.dictionaryapi.services;
 
 import cc.suvankar.dictionaryapi.repositories.DictionaryEntryRepository;
 import cc.suvankar.dictionaryapi.utils.DictionaryEntryMapper;
+import cc.suvankar.dictionaryapi.utils.EntryKeys;
+import cc.suvankar.dictionaryapi.utils.LookupKeys;
 import jakarta.transaction.Transactional;
-import org.hibernate.Hibernate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class DictionaryEntryService {
 
+    // deletes of the rows of some entries, children first, %s is the predicate on dictionary_entry
+    private static final List<String> CASCADE_DELETES = List.of(
+            "DELETE FROM verb_morphology_entry_parts_of_speech WHERE verb_morphology_entry_id IN "
+                    + "(SELECT id FROM verb_morphology_entry WHERE dictionary_entry_id IN (SELECT id FROM dictionary_entry WHERE %s))",
+            "DELETE FROM verb_morphology_entry WHERE dictionary_entry_id IN (SELECT id FROM dictionary_entry WHERE %s)",
+            "DELETE FROM definition WHERE dictionary_entry_id IN (SELECT id FROM dictionary_entry WHERE %s)",
+            "DELETE FROM quote WHERE dictionary_entry_id IN (SELECT id FROM dictionary_entry WHERE %s)",
+            "DELETE FROM synonyms WHERE dictionary_entry_id IN (SELECT id FROM dictionary_entry WHERE %s)",
+            "DELETE FROM dictionary_entry_parts_of_speech WHERE dictionary_entry_id IN (SELECT id FROM dictionary_entry WHERE %s)",
+            "DELETE FROM dictionary_entry WHERE %s");
+
+    // ids per delete statement, stays below the bind parameter limit of SQLite
+    private static final int DELETE_CHUNK_SIZE = 500;
+
     private final DictionaryEntryRepository repository;
     private final DictionaryEntryMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntryLookup entryLookup;
+    private final EntryLookupCache lookupCache;
+    private final LookupFilterService lookupFilter;
 
     private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DictionaryEntryService.class);
 
-    public DictionaryEntryService(DictionaryEntryRepository repository, DictionaryEntryMapper mapper) {
+    public DictionaryEntryService(DictionaryEntryRepository repository, DictionaryEntryMapper mapper,
+            JdbcTemplate jdbcTemplate, EntryLookup entryLookup, EntryLookupCache lookupCache,
+            LookupFilterService lookupFilter) {
         this.repository = repository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entryLookup = entryLookup;
+        this.lookupCache = lookupCache;
+        this.lookupFilter = lookupFilter;
     }
 
     @Transactional
     public cc.suvankar.dictionaryapi.models.DictionaryEntry save(final cc.suvankar.dictionaryapi.models.DictionaryEntry pojo) {
+        return save(null, pojo);
+    }
+
+    /**
+     * @param sourceFile the CIDE file the entry comes from
+     */
+    @Transactional
+    public cc.suvankar.dictionaryapi.models.DictionaryEntry save(final String sourceFile,
+            final cc.suvankar.dictionaryapi.models.DictionaryEntry pojo) {
 
         // // check if same entry is already present, if so skip insert
         // if(repository.existsByEntryWord(pojo.getEntryWord())) {
         // return null;
         // }
 
-        cc.suvankar.dictionaryapi.data.DictionaryEntry entity = mapper.toEntity(pojo);
+        cc.suvankar.dictionaryapi.data.DictionaryEntry entity = toEntity(sourceFile, pojo, EntryKeys.contentHash(pojo));
         cc.suvankar.dictionaryapi.data.DictionaryEntry savedEntity = repository.save(entity);
         return mapper.toPojo(savedEntity);
     }
 
+    /**
+     * Save the given entries in one transaction. Ids come from pooled sequences, so Hibernate can
+     * send the inserts of each table as JDBC batches (see hibernate.jdbc.batch_size).
+     * @param sourceFile the CIDE file the entries come from
+     */
     @Transactional
-    public List<cc.suvankar.dictionaryapi.models.DictionaryEntry> findEntriesByWord(final String word) {
-        LOG.info("Finding entries for word {}", word);
+    public void saveAll(final String sourceFile, final List<cc.suvankar.dictionaryapi.models.DictionaryEntry> pojos) {
+        List<cc.suvankar.dictionaryapi.data.DictionaryEntry> entities = new ArrayList<>(pojos.size());
+        for (cc.suvankar.dictionaryapi.models.DictionaryEntry pojo : pojos) {
+            entities.add(toEntity(sourceFile, pojo, EntryKeys.contentHash(pojo)));
+        }
+        repository.saveAll(entities);
+    }
+
+    /**
+     * Bring the stored entries of the given file in line with its freshly parsed entries, in one
+     * transaction. Entries are matched by their {@link EntryKeys} key: new entries are inserted, entries
+     * whose content hash changed are replaced, entries no longer in the file are deleted and the others
+     * are not touched. Readers see the old or the new file, never a half imported one.
+     * @param sourceFile the CIDE file
+     * @param pojos all entries parsed from the file, with their ordinals
+     * @return Returns what changed
+     */
+    @Transactional
+    public SyncResult syncSourceFile(final String sourceFile,
+            final List<cc.suvankar.dictionaryapi.models.DictionaryEntry> pojos) {
+        Map<String, DictionaryEntryRepository.StoredKey> stored = new HashMap<>();
+        List<Long> deletes = new ArrayList<>();
+        for (DictionaryEntryRepository.StoredKey key : repository.findKeysBySourceFile(sourceFile)) {
+            DictionaryEntryRepository.StoredKey duplicate = stored.put(
+                    EntryKeys.key(key.getEntryWord(), key.getHeadWord(), key.getEntryOrdinal()), key);
+            if (duplicate != null) {
+                deletes.add(duplicate.getId());
+            }
+        }
+        int duplicates = deletes.size();
 
-        List<cc.suvankar.dictionaryapi.data.DictionaryEntry> entityEntries = repository.findByEntryWordIgnoreCase(word);
+        List<cc.suvankar.dictionaryapi.data.DictionaryEntry> inserts = new ArrayList<>();
+        int updated = 0;
+        for (cc.suvankar.dictionaryapi.models.DictionaryEntry pojo : pojos) {
+            DictionaryEntryRepository.StoredKey key = stored.remove(EntryKeys.key(pojo));
+            String contentHash = EntryKeys.contentHash(pojo);
+            if (key != null && contentHash.equals(key.getContentHash())) {
+                continue;
+            }
+            if (key != null) {
+                deletes.add(key.getId());
+                updated++;
+            }
+            inserts.add(toEntity(sourceFile, pojo, contentHash));
+        }
+        // whatever is left is no longer in the file
+        stored.values().forEach(key -> deletes.add(key.getId()));
 
-        entityEntries.addAll(repository.findByVerbMorphologyEntry(word));
+        for (int from = 0; from < deletes.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = deletes.subList(from, Math.min(from + DELETE_CHUNK_SIZE, deletes.size()));
+            cascadeDelete("id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                    chunk.toArray());
+        }
+        repository.saveAll(inserts);
 
-        if(entityEntries.isEmpty() || entityEntries == null) {
-            LOG.info("No entries found for word {}.", word);
-            return null;
+        return new SyncResult(inserts.size() - updated, updated, deletes.size() - duplicates - updated,
+                pojos.size() - inserts.size());
+    }
+
+    /**
+     * @param inserted entries new in the file
+     * @param updated entries whose content changed
+     * @param deleted entries no longer in the file
+     * @param unchanged entries left as they were
+     */
+    public record SyncResult(int inserted, int updated, int deleted, int unchanged) {
+    }
+
+    /**
+     * Delete every entry imported from the given file, with all its child rows.
+     * @param sourceFile the CIDE file, or null for the entries imported before the source file was recorded
+     * @return Returns the number of entries deleted
+     */
+    @Transactional
+    public int deleteBySourceFile(final String sourceFile) {
+        int deleted = sourceFile == null
+                ? cascadeDelete("source_file IS NULL")
+                : cascadeDelete("source_file = ?", sourceFile);
+        LOG.info("Deleted {} entries of {}.", deleted, sourceFile == null ? "unknown source files" : sourceFile);
+        return deleted;
+    }
+
+    /**
+     * @param predicate condition on the dictionary_entry rows to delete
+     * @return Returns the number of entries deleted
+     */
+    private int cascadeDelete(String predicate, Object... args) {
+        int deleted = 0;
+        for (String delete : CASCADE_DELETES) {
+            deleted = jdbcTemplate.update(String.format(delete, predicate), args);
         }
+        return deleted;
+    }
+
+    private cc.suvankar.dictionaryapi.data.DictionaryEntry toEntity(String sourceFile,
+            cc.suvankar.dictionaryapi.models.DictionaryEntry pojo, String contentHash) {
+        cc.suvankar.dictionaryapi.data.DictionaryEntry entity = mapper.toEntity(pojo);
+        entity.setSourceFile(sourceFile);
+        entity.setEntryOrdinal(pojo.getOrdinal());
+        entity.setContentHash(contentHash);
+        return entity;
+    }
+
+    /**
+     * Fill the lookup keys of the rows stored before the key columns existed, the lookups do not find
+     * them otherwise.
+     * @return Returns the number of rows updated
+     */
+    @Transactional
+    public int fillMissingLookupKeys() {
+        int updated = fillMissingLookupKeys("dictionary_entry", "entry_word", "entry_word_key")
+                + fillMissingLookupKeys("verb_morphology_entry", "conjugated_form", "conjugated_form_key");
+        if (updated > 0) {
+            LOG.info("Filled the lookup keys of {} rows.", updated);
+        }
+        return updated;
+    }
+
+    private int fillMissingLookupKeys(String table, String column, String keyColumn) {
+        // normalized here and not with lower(), which only folds ASCII on SQLite
+        List<Object[]> updates = jdbcTemplate.query(
+                "SELECT id, " + column + " FROM " + table + " WHERE " + keyColumn + " IS NULL AND " + column + " IS NOT NULL",
+                (resultSet, row) -> new Object[] { LookupKeys.normalize(resultSet.getString(2)), resultSet.getLong(1) });
+        jdbcTemplate.batchUpdate("UPDATE " + table + " SET " + keyColumn + " = ? WHERE id = ?", updates);
+        return updates.size();
+    }
 
-        entityEntries.forEach(entry -> Hibernate.initialize(entry.getDefinitions()));
-        entityEntries.forEach(entry -> Hibernate.initialize(entry.getPartsOfSpeech()));
-        entityEntries.forEach(entry -> Hibernate.initialize(entry.getSynonym()));
-        entityEntries.forEach(entry -> Hibernate.initialize(entry.getVerbMorphologyEntries()));
-        entityEntries.forEach(entry -> Hibernate.initialize(entry.getQuotes()));
+    @Transactional
+    public long countBySourceFile(final String sourceFile) {
+        return repository.countBySourceFile(sourceFile);
+    }
 
-        List<cc.suvankar.dictionaryapi.models.DictionaryEntry> pojoEntries = new LinkedList<>();
+    /**
+     * Look a word up with the configured {@link EntryLookup}, through the {@link LookupFilterService} and
+     * the {@link EntryLookupCache}.
+     * @return Returns the unmodifiable entries, null if there are none
+     */
+    public List<cc.suvankar.dictionaryapi.models.DictionaryEntry> findEntriesByWord(final String word) {
+        LOG.info("Finding entries for word {}", word);
 
-        entityEntries.forEach(entity -> pojoEntries.add(mapper.toPojo(entity)));
+        // the lookups compare the word as is with the normalized keys, any other word finds nothing. Neither
+        // those nor the words the filter rules out are cached
+        if (word == null || !word.equals(LookupKeys.normalize(word)) || !lookupFilter.mightContain(word)) {
+            LOG.info("No entries found for word {}.", word);
+            return null;
+        }
+        List<cc.suvankar.dictionaryapi.models.DictionaryEntry> entries = lookupCache.get(word,
+                entryLookup::findEntriesByWord);
 
-        return pojoEntries;
+        if (entries.isEmpty()) {
+            LOG.info("No entries found for word {}.", word);
+            return null;
+        }
+        return entries;
     }
 
     @Transactional
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+
+import java.util.List;
+
+/**
+ * Where {@link DictionaryEntryService#findEntriesByWord} looks the words up. The implementation is
+ * selected with the dictionary.lookup property.
+ */
+public interface EntryLookup {
+
+    /**
+     * @param word the word as asked, compared with the lower case entry words and conjugated forms
+     * @return Returns the entries with the word as entry word, then the entries with the word as conjugated
+     * form, empty if there are none
+     */
+    List<DictionaryEntry> findEntriesByWord(String word);
+
+    /**
+     * Called when an import changed the entries of the database, before its job is finished.
+     */
+    default void entriesChanged() {
+    }
+}
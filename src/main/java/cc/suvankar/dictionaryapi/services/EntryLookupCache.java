@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.Quote;
+import cc.suvankar.dictionaryapi.models.Synonym;
+import cc.suvankar.dictionaryapi.models.VerbMorphologyEntry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The entries of the words looked up recently, in front of the {@link EntryLookup}. A few words make most
+ * of the lookups, Caffeine keeps those (W-TinyLFU) within maximum-weight, the number of entries,
+ * definitions and quotes cached. Cleared when an import ends, see {@link IngestionJobService}.
+ * <p>
+ * The cached entries are shared by all callers, their collections are unmodifiable.
+ * <p>
+ * The hits, misses and evictions are the cache.* meters tagged cache=dictionary.lookups, at
+ * /actuator/metrics and /actuator/prometheus.
+ */
+@Component
+public class EntryLookupCache {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(EntryLookupCache.class);
+
+    public static final String NAME = "dictionary.lookups";
+
+    private final Cache<String, List<DictionaryEntry>> cache;
+
+    public EntryLookupCache(MeterRegistry registry,
+            @Value("${dictionary.lookup-cache.maximum-weight:100000}") long maximumWeight) {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher(EntryLookupCache::weigh)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, NAME);
+        LOG.info("Caching the lookups up to a weight of {}.", maximumWeight);
+    }
+
+    /**
+     * @param key the word as looked up
+     * @param lookup finds the entries of the word when they are not cached
+     * @return Returns the unmodifiable entries of the word
+     */
+    public List<DictionaryEntry> get(String key, Function<String, List<DictionaryEntry>> lookup) {
+        return cache.get(key, word -> unmodifiable(lookup.apply(word)));
+    }
+
+    /**
+     * Drop all cached lookups, e.g. after an import changed the entries.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // an empty result still takes a slot
+    private static int weigh(String key, List<DictionaryEntry> entries) {
+        int weight = 1;
+        for (DictionaryEntry entry : entries) {
+            weight += 1 + entry.getDefinitions().size() + entry.getQuotes().size();
+        }
+        return weight;
+    }
+
+    private static List<DictionaryEntry> unmodifiable(List<DictionaryEntry> entries) {
+        return entries.stream().map(EntryLookupCache::unmodifiable).toList();
+    }
+
+    private static DictionaryEntry unmodifiable(DictionaryEntry entry) {
+        DictionaryEntry copy = new DictionaryEntry();
+        copy.setEntryWord(entry.getEntryWord());
+        copy.setHeadWord(entry.getHeadWord());
+        copy.setEtymology(entry.getEtymology());
+        copy.setOrdinal(entry.getOrdinal());
+        copy.setDefinitions(entry.getDefinitions().stream()
+                .map(definition -> new Definition(definition.getDefinition(), definition.getSource(),
+                        definition.getMark()))
+                .toList());
+        copy.setPartsOfSpeech(Collections.unmodifiableSet(new LinkedHashSet<>(entry.getPartsOfSpeech())));
+        copy.setSynonym(new Synonym(Collections.unmodifiableList(new ArrayList<>(entry.getSynonym().getSynonymList())),
+                entry.getSynonym().getSource()));
+        copy.setVerbMorphologyEntries(entry.getVerbMorphologyEntries().stream()
+                .map(verb -> new VerbMorphologyEntry(
+                        Collections.unmodifiableList(new ArrayList<>(verb.getPartsOfSpeech())), verb.getConjugatedForm()))
+                .toList());
+        copy.setQuotes(entry.getQuotes().stream()
+                .map(quote -> new Quote(quote.getText(), quote.getAuthor(), quote.getSource()))
+                .toList());
+        return copy;
+    }
+}
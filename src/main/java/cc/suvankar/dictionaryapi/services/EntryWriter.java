@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+
+import java.util.List;
+
+/**
+ * Where the persist workers of {@link XmlProcessor} write the parsed entries to. The implementation
+ * is selected with the dictionary.ingestion.mode property.
+ */
+public interface EntryWriter {
+
+    /**
+     * Called once before the first file of an import is parsed.
+     */
+    default void beforeImport() {
+    }
+
+    /**
+     * Write a batch of entries. Called concurrently by the persist workers.
+     * @param sourceFile the CIDE file the entries come from
+     * @return Returns the number of entries written
+     */
+    int write(String sourceFile, List<DictionaryEntry> entries);
+
+    /**
+     * @return Returns true if a written batch is committed right away, false if nothing is committed
+     * before {@link #afterImport()}
+     */
+    default boolean commitsPerBatch() {
+        return true;
+    }
+
+    /**
+     * Called once after the last file of an import, also when some files failed.
+     */
+    default void afterImport() {
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import java.util.List;
+
+/**
+ * Follows the progress of an import, and can stop it. Called from the threads of the import, the
+ * implementation has to be thread safe.
+ */
+public interface ImportListener {
+
+    ImportListener NONE = new ImportListener() {
+    };
+
+    /**
+     * Called once the files that have to be imported are known.
+     * @param fileNames the files that are not imported yet, the others are skipped
+     */
+    default void importStarted(List<String> fileNames) {
+    }
+
+    /**
+     * Called after each batch written to the database.
+     */
+    default void entriesPersisted(String fileName, long count) {
+    }
+
+    /**
+     * @param completed false if the file failed or was cancelled
+     */
+    default void fileFinished(String fileName, boolean completed) {
+    }
+
+    /**
+     * Checked before each file and while parsing. A cancelled file is marked as failed in the manifest,
+     * so the next import picks it up again.
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+}
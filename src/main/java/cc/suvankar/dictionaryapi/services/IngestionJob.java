@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One import run by {@link IngestionJobService}, with its progress. Serialized as is by the parse
+ * endpoints.
+ */
+public class IngestionJob implements ImportListener {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+
+    private final long id;
+    private final String dataset;
+    private final Instant submittedAt = Instant.now();
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private volatile boolean cancelled;
+
+    private volatile int filesTotal;
+    private final AtomicInteger filesDone = new AtomicInteger();
+    private final AtomicInteger filesFailed = new AtomicInteger();
+    private final AtomicLong entriesPersisted = new AtomicLong();
+
+    IngestionJob(long id, String dataset) {
+        this.id = id;
+        this.dataset = dataset;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * @return Returns the file the job imports, or "all"
+     */
+    public String getDataset() {
+        return dataset;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return Returns the number of files to import, without the ones already imported
+     */
+    public int getFilesTotal() {
+        return filesTotal;
+    }
+
+    public int getFilesDone() {
+        return filesDone.get();
+    }
+
+    public int getFilesFailed() {
+        return filesFailed.get();
+    }
+
+    public long getEntriesPersisted() {
+        return entriesPersisted.get();
+    }
+
+    public double getEntriesPerSecond() {
+        Instant start = startedAt;
+        if (start == null) {
+            return 0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long millis = Duration.between(start, end).toMillis();
+        return millis == 0 ? 0 : entriesPersisted.get() * 1000.0 / millis;
+    }
+
+    /**
+     * Remaining time, assuming the remaining files take as long as the finished ones on average.
+     * @return Returns the estimate in seconds, or null while no file is finished yet
+     */
+    public Long getEtaSeconds() {
+        if (!isActive()) {
+            return 0L;
+        }
+        Instant start = startedAt;
+        int done = filesDone.get();
+        if (start == null || done == 0) {
+            return null;
+        }
+        long elapsed = Duration.between(start, Instant.now()).toSeconds();
+        return elapsed * (filesTotal - done) / done;
+    }
+
+    @JsonIgnore
+    public boolean isActive() {
+        Status current = status;
+        return current == Status.QUEUED || current == Status.RUNNING;
+    }
+
+    @Override
+    public void importStarted(List<String> fileNames) {
+        filesTotal = fileNames.size();
+    }
+
+    @Override
+    public void entriesPersisted(String fileName, long count) {
+        entriesPersisted.addAndGet(count);
+    }
+
+    @Override
+    public void fileFinished(String fileName, boolean completed) {
+        filesDone.incrementAndGet();
+        if (!completed) {
+            filesFailed.incrementAndGet();
+        }
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    void started() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    void finished(Status status, String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+}
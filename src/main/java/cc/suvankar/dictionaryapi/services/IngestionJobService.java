@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.exceptions.IngestionJobConflictException;
+import cc.suvankar.dictionaryapi.exceptions.ReadOnlyDictionaryException;
+import cc.suvankar.dictionaryapi.utils.FileReaderUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the imports in the background, one job at a time on a single ingestion thread, and keeps the
+ * last jobs for the job history.
+ * <p>
+ * Only one job per dataset can be queued or running: a job for a file conflicts with another job for
+ * the same file, with a job for all files and with a job for the quarantined files.
+ */
+@Service
+public class IngestionJobService {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(IngestionJobService.class);
+
+    public static final String ALL_FILES = "all";
+    // the files with a quarantined block that parses now, known once the job runs
+    public static final String QUARANTINED = "quarantined";
+
+    private final IngestionService ingestionService;
+    private final EntryLookup entryLookup;
+    private final EntryLookupCache lookupCache;
+    private final LookupFilterService lookupFilter;
+
+    // finished jobs kept in the job history
+    @Value("${dictionary.ingestion.job-history:50}")
+    private int jobHistory = 50;
+
+    // a prebuilt dictionary is opened read only, see PrebuiltDatabaseEnvironmentPostProcessor
+    @Value("${dictionary.read-only:false}")
+    private boolean readOnly;
+
+    // by id, in submission order
+    private final Map<Long, IngestionJob> jobs = new LinkedHashMap<>();
+    private long lastId;
+
+    private ExecutorService executor;
+
+    public IngestionJobService(IngestionService ingestionService, EntryLookup entryLookup,
+            EntryLookupCache lookupCache, LookupFilterService lookupFilter) {
+        this.ingestionService = ingestionService;
+        this.entryLookup = entryLookup;
+        this.lookupCache = lookupCache;
+        this.lookupFilter = lookupFilter;
+    }
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "ingestion"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        synchronized (this) {
+            jobs.values().forEach(IngestionJob::cancel);
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue an import.
+     * @param dataset a CIDE file name, {@link #ALL_FILES} or {@link #QUARANTINED}
+     * @param force import the files also when they are already completed
+     * @return Returns the queued job
+     * @throws IngestionJobConflictException if a job for the same files is queued or running
+     * @throws ReadOnlyDictionaryException if the dictionary is read only
+     */
+    public synchronized IngestionJob submit(String dataset, boolean force) {
+        if (readOnly) {
+            throw new ReadOnlyDictionaryException();
+        }
+        for (IngestionJob job : jobs.values()) {
+            if (job.isActive() && overlaps(job.getDataset(), dataset)) {
+                throw new IngestionJobConflictException(job);
+            }
+        }
+        IngestionJob job = new IngestionJob(++lastId, dataset);
+        jobs.put(job.getId(), job);
+        evictFinishedJobs();
+
+        executor.execute(() -> run(job, force));
+        return job;
+    }
+
+    public synchronized Optional<IngestionJob> findJob(long id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * @return Returns the jobs, most recent first
+     */
+    public synchronized List<IngestionJob> getJobs() {
+        List<IngestionJob> history = new ArrayList<>(jobs.values());
+        Collections.reverse(history);
+        return history;
+    }
+
+    /**
+     * Ask a job to stop. A queued job does not start, a running job stops at the next entry, the files it
+     * did not finish are picked up again by the next import.
+     * @return Returns the job, empty if there is no such job
+     */
+    public synchronized Optional<IngestionJob> cancel(long id) {
+        IngestionJob job = jobs.get(id);
+        if (job != null && job.isActive()) {
+            LOG.info("Cancelling job {}.", id);
+            job.cancel();
+        }
+        return Optional.ofNullable(job);
+    }
+
+    private void run(IngestionJob job, boolean force) {
+        if (job.isCancelled()) {
+            job.finished(IngestionJob.Status.CANCELLED, null);
+            return;
+        }
+        job.started();
+        LOG.info("Starting job {} importing {}.", job.getId(), job.getDataset());
+        try {
+            List<String> fileNames = switch (job.getDataset()) {
+                case ALL_FILES -> FileReaderUtil.listFiles();
+                case QUARANTINED -> ingestionService.recheckQuarantine();
+                default -> List.of(job.getDataset());
+            };
+            List<String> imported = null;
+            try {
+                imported = ingestionService.importFiles(fileNames, force, job);
+            } finally {
+                // before the job is seen finished, also a failed or cancelled import may have changed entries
+                boolean changed = imported == null || !imported.isEmpty();
+                if (changed || lookupFilter.isMissing()) {
+                    lookupFilter.rebuild();
+                }
+                if (changed) {
+                    entryLookup.entriesChanged();
+                }
+                lookupCache.invalidateAll();
+            }
+
+            if (job.isCancelled()) {
+                job.finished(IngestionJob.Status.CANCELLED, null);
+                LOG.info("Job {} cancelled.", job.getId());
+            } else if (job.getFilesFailed() > 0) {
+                job.finished(IngestionJob.Status.FAILED,
+                        job.getFilesFailed() + " of " + imported.size() + " files failed");
+                LOG.error("Job {} finished, {} of {} files failed.", job.getId(), job.getFilesFailed(), imported.size());
+            } else {
+                job.finished(IngestionJob.Status.COMPLETED, null);
+                if (imported.isEmpty()) {
+                    LOG.info("Dictionary is already populated.");
+                } else {
+                    LOG.info("Parsing completed, job {} imported {} files.", job.getId(), imported.size());
+                }
+            }
+        } catch (Exception e) {
+            LOG.error("Fatal error {}", e.getMessage());
+            job.finished(IngestionJob.Status.FAILED, e.getMessage());
+        }
+    }
+
+    private static boolean overlaps(String dataset, String other) {
+        return dataset.equals(other) || isWildcard(dataset) || isWildcard(other);
+    }
+
+    // the files of the dataset are not known before the job runs
+    private static boolean isWildcard(String dataset) {
+        return ALL_FILES.equals(dataset) || QUARANTINED.equals(dataset);
+    }
+
+    private void evictFinishedJobs() {
+        long finished = jobs.values().stream().filter(job -> !job.isActive()).count();
+        // oldest first
+        for (Iterator<IngestionJob> it = jobs.values().iterator(); finished > jobHistory && it.hasNext();) {
+            if (!it.next().isActive()) {
+                it.remove();
+                finished--;
+            }
+        }
+    }
+}
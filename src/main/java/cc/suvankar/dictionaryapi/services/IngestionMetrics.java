@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters of the ingestion stages, tagged by file. Exposed at /actuator/prometheus.
+ * <p>
+ * The scan and parse timers are recorded once per parse window and the persist timer once per batch,
+ * so they show where the time of an import goes without timing every block.
+ */
+@Component
+public class IngestionMetrics {
+
+    private static final String PREFIX = "dictionary.ingestion.";
+
+    private final MeterRegistry registry;
+
+    public IngestionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * @param fileName the CIDE file, used as the file tag
+     * @return Returns the meters of the file, to be used by the threads importing it
+     */
+    public FileMetrics forFile(String fileName) {
+        return new FileMetrics(fileName);
+    }
+
+    public final class FileMetrics {
+        private final String fileName;
+        private final Counter blocksScanned;
+        private final Counter entriesParsed;
+        private final Counter continuationsAttached;
+        private final Counter malformedBlocksSkipped;
+        private final Counter duplicatesDropped;
+        private final Timer scanTimer;
+        private final Timer parseTimer;
+        private final Timer persistTimer;
+
+        private FileMetrics(String fileName) {
+            this.fileName = fileName;
+            blocksScanned = counter("blocks.scanned", "<p> blocks read from the file");
+            entriesParsed = counter("entries.parsed", "Entries parsed from the file");
+            continuationsAttached = counter("continuations.attached",
+                    "Quote, definition and synonym blocks attached to the entry before them");
+            malformedBlocksSkipped = counter("blocks.malformed", "Blocks quarantined because they can not be parsed");
+            duplicatesDropped = counter("entries.duplicate", "Entries dropped because the file already had them");
+            scanTimer = timer("scan", "Time spent reading the blocks of a parse window");
+            parseTimer = timer("parse", "Time spent parsing the blocks of a parse window");
+            persistTimer = timer("persist", "Time spent mapping and writing a batch of entries");
+        }
+
+        private Counter counter(String name, String description) {
+            return Counter.builder(PREFIX + name)
+                    .description(description)
+                    .tag("file", fileName)
+                    .register(registry);
+        }
+
+        private Timer timer(String name, String description) {
+            return Timer.builder(PREFIX + name)
+                    .description(description)
+                    .tag("file", fileName)
+                    .register(registry);
+        }
+
+        public void blocksScanned(int blocks, long nanos) {
+            blocksScanned.increment(blocks);
+            scanTimer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void windowParsed(long nanos) {
+            parseTimer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void entryParsed() {
+            entriesParsed.increment();
+        }
+
+        public void continuationAttached() {
+            continuationsAttached.increment();
+        }
+
+        public void malformedBlockSkipped() {
+            malformedBlocksSkipped.increment();
+        }
+
+        public void duplicateDropped() {
+            duplicatesDropped.increment();
+        }
+
+        public void batchPersisted(long nanos) {
+            persistTimer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Report the size of the queue between the parser and the persist workers, until the returned
+         * gauge is removed.
+         */
+        public Gauge queueDepth(Collection<?> queue) {
+            return Gauge.builder(PREFIX + "queue.depth", queue, Collection::size)
+                    .description("Entries parsed and waiting for the persist workers")
+                    .tag("file", fileName)
+                    .register(registry);
+        }
+
+        public void remove(Gauge gauge) {
+            registry.remove(gauge);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.utils.FileReaderUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * The threads of all imports, sized once for the machine and the database:
+ * <ul>
+ * <li>files imported at a time (file-parallelism), started largest first, so the import does not end
+ * with one big file still running alone;</li>
+ * <li>threads parsing the blocks of those files (parse-parallelism);</li>
+ * <li>batches written to the database at a time (max-concurrent-writes). By default one on single writer
+ * engines like SQLite, where concurrent transactions only wait on the database lock, and otherwise the
+ * size of the connection pool, less the connections kept for the lookups served during the import;</li>
+ * <li>threads the persist workers of all files run on, one per batch written at a time.</li>
+ * </ul>
+ * A value of 0 lets the scheduler size it.
+ */
+@Component
+public class IngestionScheduler {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(IngestionScheduler.class);
+
+    // connections of the pool left to the lookups and the manifest updates while importing
+    private static final int RESERVED_CONNECTIONS = 2;
+
+    private final DataSource dataSource;
+
+    // threads parsing the blocks of the files, 1 to parse on the thread importing the file only
+    @Value("${dictionary.ingestion.parse-parallelism:0}")
+    private int parseParallelism = 0;
+
+    @Value("${dictionary.ingestion.max-concurrent-writes:0}")
+    private int maxConcurrentWrites = 0;
+
+    @Value("${dictionary.ingestion.file-parallelism:0}")
+    private int fileParallelism = 0;
+
+    private ForkJoinPool parsePool;
+    private Semaphore writePermits;
+    private ExecutorService persistPool;
+    private ExecutorService filePool;
+
+    /**
+     * @param dataSource the database written to, null to leave the writes unbounded
+     */
+    public IngestionScheduler(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    void init() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        if (parseParallelism <= 0) {
+            parseParallelism = processors;
+        }
+        if (maxConcurrentWrites <= 0 && dataSource != null) {
+            maxConcurrentWrites = writeConcurrency(dataSource, processors);
+        }
+        if (fileParallelism <= 0) {
+            // one file more than can be written at a time, so a file is parsing while the others write
+            fileParallelism = maxConcurrentWrites > 0 ? Math.min(processors, maxConcurrentWrites + 1) : processors;
+        }
+
+        if (parseParallelism > 1) {
+            parsePool = new ForkJoinPool(parseParallelism);
+        }
+        if (maxConcurrentWrites > 0) {
+            writePermits = new Semaphore(maxConcurrentWrites, true);
+        }
+        // a persist thread more than write permits would only wait for a permit
+        int persistThreads = maxConcurrentWrites > 0 ? maxConcurrentWrites : processors;
+        AtomicInteger persistThreadCount = new AtomicInteger();
+        persistPool = Executors.newFixedThreadPool(persistThreads,
+                runnable -> new Thread(runnable, "ingestion-persist-" + persistThreadCount.incrementAndGet()));
+        AtomicInteger threads = new AtomicInteger();
+        filePool = Executors.newFixedThreadPool(fileParallelism,
+                runnable -> new Thread(runnable, "ingestion-file-" + threads.incrementAndGet()));
+        LOG.info("Importing {} files at a time, parsing on {} threads, persisting on {} threads, {} concurrent writes.",
+                fileParallelism, parseParallelism, persistThreads,
+                maxConcurrentWrites > 0 ? maxConcurrentWrites : "unbounded");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        filePool.shutdownNow();
+        persistPool.shutdownNow();
+        if (parsePool != null) {
+            parsePool.shutdownNow();
+        }
+    }
+
+    /**
+     * @return Returns the pool parsing the blocks of the files, or null to parse on the calling thread
+     */
+    public ForkJoinPool parsePool() {
+        return parsePool;
+    }
+
+    /**
+     * @return Returns the pool the persist workers of all files run on. Workers of the files that do not
+     * fit wait for a thread, while their parser fills the queue of the file.
+     */
+    public ExecutorService persistPool() {
+        return persistPool;
+    }
+
+    /**
+     * Wait until a batch may be written.
+     */
+    public void acquireWrite() throws InterruptedException {
+        if (writePermits != null) {
+            writePermits.acquire();
+        }
+    }
+
+    public void releaseWrite() {
+        if (writePermits != null) {
+            writePermits.release();
+        }
+    }
+
+    /**
+     * Run the task for each file, file-parallelism files at a time, the largest files first, and wait for
+     * all of them. A task that throws does not stop the others.
+     * @throws InterruptedException if interrupted while waiting, the tasks not finished yet are cancelled
+     */
+    public void forEachFile(Collection<String> fileNames, Consumer<String> task) throws InterruptedException {
+        List<Future<?>> futures = new ArrayList<>(fileNames.size());
+        for (String fileName : largestFirst(fileNames)) {
+            futures.add(filePool.submit(() -> task.accept(fileName)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException | CancellationException e) {
+                    LOG.error("Import task failed: {}", e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    static List<String> largestFirst(Collection<String> fileNames) {
+        Map<String, Long> sizes = new HashMap<>();
+        for (String fileName : fileNames) {
+            try {
+                sizes.put(fileName, FileReaderUtil.size(fileName));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        List<String> ordered = new ArrayList<>(fileNames);
+        ordered.sort(Comparator.comparing(sizes::get, Comparator.reverseOrder()));
+        return ordered;
+    }
+
+    private static int writeConcurrency(DataSource dataSource, int processors) {
+        try {
+            try (Connection connection = dataSource.getConnection()) {
+                if ("SQLite".equals(connection.getMetaData().getDatabaseProductName())) {
+                    return 1;
+                }
+            }
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                return Math.max(1, poolSize - RESERVED_CONNECTIONS);
+            }
+        } catch (SQLException e) {
+            LOG.warn("Unable to size the writes to the database: {}", e.getMessage());
+        }
+        return processors;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.data.IngestionManifest;
+import cc.suvankar.dictionaryapi.data.IngestionManifest.Status;
+import cc.suvankar.dictionaryapi.data.QuarantinedBlock;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.repositories.IngestionManifestRepository;
+import cc.suvankar.dictionaryapi.utils.FileReaderUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Imports the CIDE files and keeps track of them in the ingestion_manifest table, so that an import
+ * interrupted by a crash or a failure only costs the files it did not finish.
+ * <p>
+ * A file is imported again when it has no manifest row, when its import did not complete, or when its
+ * content changed. Before that all entries from a previous attempt of the file are deleted, so a
+ * resumed import never duplicates rows.
+ * <p>
+ * With dictionary.ingestion.incremental, a file that already has entries is not deleted and imported
+ * again, but compared entry by entry with what is stored and only the differences are written, see
+ * {@link DictionaryEntryService#syncSourceFile}.
+ * <p>
+ * Entries that are duplicates of an entry before them in the same file are dropped, see
+ * {@link XmlProcessor#parseXml(String, java.util.function.Consumer)}.
+ * <p>
+ * The files are imported on the threads of the {@link IngestionScheduler}.
+ */
+@Service
+public class IngestionService {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(IngestionService.class);
+
+    private final XmlProcessor xmlProcessor;
+    private final EntryWriter entryWriter;
+    private final DictionaryEntryService dictionaryEntryService;
+    private final IngestionManifestRepository manifestRepository;
+    private final IngestionScheduler scheduler;
+    private final BlockQuarantine quarantine;
+
+    // update the files that already have entries in place instead of deleting and importing them again
+    @Value("${dictionary.ingestion.incremental:true}")
+    private boolean incremental = true;
+
+    public IngestionService(XmlProcessor xmlProcessor,
+            EntryWriter entryWriter,
+            DictionaryEntryService dictionaryEntryService,
+            IngestionManifestRepository manifestRepository,
+            IngestionScheduler scheduler,
+            BlockQuarantine quarantine) {
+        this.xmlProcessor = xmlProcessor;
+        this.entryWriter = entryWriter;
+        this.dictionaryEntryService = dictionaryEntryService;
+        this.manifestRepository = manifestRepository;
+        this.scheduler = scheduler;
+        this.quarantine = quarantine;
+    }
+
+    /**
+     * Import the given CIDE files, as many at a time as the scheduler allows, the largest first. A file
+     * that fails is marked as failed in the manifest and does not stop the others.
+     * @param fileNames names of the files inside the GCIDE resource directory
+     * @param force import the files also when they are already completed
+     * @return Returns the names of the files that had to be imported
+     */
+    public List<String> importFiles(List<String> fileNames, boolean force) throws IOException {
+        return importFiles(fileNames, force, ImportListener.NONE);
+    }
+
+    /**
+     * Same as {@link #importFiles(List, boolean)}, reporting the progress to the listener.
+     */
+    public List<String> importFiles(List<String> fileNames, boolean force, ImportListener listener)
+            throws IOException {
+        // file name -> content hash
+        Map<String, String> pending = new LinkedHashMap<>();
+        for (String fileName : fileNames) {
+            String hash = FileReaderUtil.contentHash(fileName);
+            if (!force && isCompleted(fileName, hash)) {
+                LOG.info("File {} is already imported, skipping.", fileName);
+                continue;
+            }
+            pending.put(fileName, hash);
+        }
+        List<String> imported = List.copyOf(pending.keySet());
+        listener.importStarted(imported);
+        if (pending.isEmpty()) {
+            return imported;
+        }
+
+        if (!force && manifestRepository.count() == 0) {
+            // entries imported before the manifest existed can not be told apart, they are imported again
+            dictionaryEntryService.deleteBySourceFile(null);
+        }
+        if (incremental) {
+            // one at a time, each file is a single transaction
+            for (Iterator<Map.Entry<String, String>> it = pending.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<String, String> file = it.next();
+                if (dictionaryEntryService.countBySourceFile(file.getKey()) > 0) {
+                    syncFile(file.getKey(), file.getValue(), listener);
+                    it.remove();
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return imported;
+        }
+        for (Map.Entry<String, String> file : pending.entrySet()) {
+            dictionaryEntryService.deleteBySourceFile(file.getKey());
+            start(file.getKey(), file.getValue());
+        }
+
+        // results of the files held back until the entry writer commits, see finish
+        Map<String, FileResult> uncommitted = new ConcurrentHashMap<>();
+        entryWriter.beforeImport();
+        try {
+            scheduler.forEachFile(pending.keySet(),
+                    fileName -> importFile(fileName, uncommitted, listener));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            finishImport(uncommitted, listener);
+        }
+        return imported;
+    }
+
+    /**
+     * Parse the quarantined blocks again, e.g. after a parser fix. The blocks that still fail keep their
+     * new error.
+     * @return Returns the files any quarantined block of which parses now, to be imported again
+     */
+    public List<String> recheckQuarantine() {
+        return quarantine.recheck(xmlProcessor::parseError);
+    }
+
+    private void syncFile(String fileName, String hash, ImportListener listener) {
+        if (listener.isCancelled()) {
+            finish(fileName, Status.FAILED, 0, listener);
+            return;
+        }
+        start(fileName, hash);
+        try {
+            List<DictionaryEntry> entries = xmlProcessor.parseXml(fileName);
+            DictionaryEntryService.SyncResult result = dictionaryEntryService.syncSourceFile(fileName, entries);
+            LOG.info("Updated file {}: {} entries inserted, {} updated, {} deleted, {} unchanged.", fileName,
+                    result.inserted(), result.updated(), result.deleted(), result.unchanged());
+            listener.entriesPersisted(fileName, entries.size());
+            finish(fileName, Status.COMPLETED, entries.size(), listener);
+        } catch (Exception e) {
+            LOG.error("Error updating file {}: {}", fileName, e.getMessage());
+            finish(fileName, Status.FAILED, 0, listener);
+        }
+    }
+
+    private void importFile(String fileName, Map<String, FileResult> uncommitted, ImportListener listener) {
+        if (listener.isCancelled()) {
+            finish(fileName, new FileResult(Status.FAILED, 0, null), uncommitted, listener);
+            return;
+        }
+        try {
+            XmlProcessor.PersistResult result = xmlProcessor.processAndPersistXml(fileName, listener);
+            if (!result.isComplete()) {
+                LOG.error("Only {} of {} entries of file {} were saved.", result.persisted(), result.parsed(),
+                        fileName);
+                finish(fileName, new FileResult(Status.FAILED, result.persisted(), result.failedBlocks()),
+                        uncommitted, listener);
+            } else {
+                finish(fileName, new FileResult(Status.COMPLETED, result.persisted(), result.failedBlocks()),
+                        uncommitted, listener);
+            }
+        } catch (Exception e) {
+            LOG.error("Error processing file {}: {}", fileName, e.getMessage());
+            finish(fileName, new FileResult(Status.FAILED, 0, null), uncommitted, listener);
+        }
+    }
+
+    /**
+     * Quarantine the failed blocks of a file and record its result in the manifest. When the entry writer
+     * commits only after the import, both are held back until then: the writer may hold the only write
+     * lock of the database (SQLite) until it commits, and a file is only completed once its entries are
+     * committed.
+     */
+    private void finish(String fileName, FileResult result, Map<String, FileResult> uncommitted,
+            ImportListener listener) {
+        if (entryWriter.commitsPerBatch()) {
+            finish(fileName, result, listener);
+        } else {
+            uncommitted.put(fileName, result);
+        }
+    }
+
+    private void finishImport(Map<String, FileResult> uncommitted, ImportListener listener) {
+        try {
+            entryWriter.afterImport();
+        } catch (RuntimeException e) {
+            uncommitted.forEach((fileName, result) ->
+                    finish(fileName, new FileResult(Status.FAILED, 0, result.failedBlocks()), listener));
+            throw e;
+        }
+        uncommitted.forEach((fileName, result) -> finish(fileName, result, listener));
+    }
+
+    private void finish(String fileName, FileResult result, ImportListener listener) {
+        if (result.failedBlocks() != null) {
+            xmlProcessor.quarantine(fileName, result.failedBlocks());
+        }
+        finish(fileName, result.status(), result.entryCount(), listener);
+    }
+
+    private void finish(String fileName, Status status, long entryCount, ImportListener listener) {
+        update(fileName, status, entryCount);
+        listener.fileFinished(fileName, status == Status.COMPLETED);
+    }
+
+    /**
+     * The result of a file, before it is recorded in the manifest.
+     * @param failedBlocks the blocks the parser failed on, null if the file was not parsed to the end
+     */
+    private record FileResult(Status status, long entryCount, List<QuarantinedBlock> failedBlocks) {
+    }
+
+    private boolean isCompleted(String fileName, String hash) {
+        return manifestRepository.findByFileName(fileName)
+                .filter(manifest -> manifest.getStatus() == Status.COMPLETED)
+                .filter(manifest -> hash.equals(manifest.getContentHash()))
+                .isPresent();
+    }
+
+    private void start(String fileName, String hash) {
+        IngestionManifest manifest = manifestRepository.findByFileName(fileName).orElseGet(IngestionManifest::new);
+        manifest.setFileName(fileName);
+        manifest.setContentHash(hash);
+        manifest.setEntryCount(0);
+        manifest.setStatus(Status.IN_PROGRESS);
+        manifest.setStartedAt(Instant.now());
+        manifest.setCompletedAt(null);
+        manifestRepository.save(manifest);
+    }
+
+    private void update(String fileName, Status status, long entryCount) {
+        manifestRepository.updateStatus(fileName, status, entryCount,
+                status == Status.COMPLETED ? Instant.now() : null);
+    }
+}
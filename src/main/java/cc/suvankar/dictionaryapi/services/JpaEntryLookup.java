@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.repositories.DictionaryEntryRepository;
+import cc.suvankar.dictionaryapi.utils.DictionaryEntryMapper;
+import jakarta.transaction.Transactional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Looks the words up in the database, by the {@link cc.suvankar.dictionaryapi.utils.LookupKeys} keys of
+ * the entry words and the conjugated forms.
+ */
+@Component
+@ConditionalOnProperty(name = "dictionary.lookup", havingValue = "jpa", matchIfMissing = true)
+public class JpaEntryLookup implements EntryLookup {
+
+    private final DictionaryEntryRepository repository;
+    private final DictionaryEntryMapper mapper;
+
+    public JpaEntryLookup(DictionaryEntryRepository repository, DictionaryEntryMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    @Transactional
+    public List<DictionaryEntry> findEntriesByWord(String word) {
+        // compared as is with the lower case keys, like the binary lookup. The collections are batch
+        // fetched while mapping, a statement per collection whatever the number of entries
+        List<cc.suvankar.dictionaryapi.data.DictionaryEntry> entityEntries = repository.findByLookupKey(word);
+
+        List<DictionaryEntry> pojoEntries = new LinkedList<>();
+
+        entityEntries.forEach(entity -> pojoEntries.add(mapper.toPojo(entity)));
+
+        return pojoEntries;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes the entries through JPA, one transaction per batch. Works on any database and next to an
+ * already populated dictionary.
+ */
+@Component
+@ConditionalOnProperty(name = "dictionary.ingestion.mode", havingValue = "jpa", matchIfMissing = true)
+public class JpaEntryWriter implements EntryWriter {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(JpaEntryWriter.class);
+
+    private final DictionaryEntryService dbService;
+
+    public JpaEntryWriter(DictionaryEntryService dbService) {
+        this.dbService = dbService;
+    }
+
+    @Override
+    public int write(String sourceFile, List<DictionaryEntry> entries) {
+        try {
+            dbService.saveAll(sourceFile, entries);
+            return entries.size();
+        } catch (Exception e) {
+            // the whole batch is rolled back, retry one by one to only lose the failing entries
+            LOG.warn("Error saving batch of {} entries, retrying one by one: {}", entries.size(), e.getMessage());
+            int saved = 0;
+            for (DictionaryEntry entry : entries) {
+                try {
+                    dbService.save(sourceFile, entry);
+                    saved++;
+                } catch (Exception ex) {
+                    LOG.error("Error saving entry {}: {}", entry.getEntryWord(), ex.getMessage());
+                }
+            }
+            return saved;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.data.LookupFilter;
+import cc.suvankar.dictionaryapi.repositories.LookupFilterRepository;
+import cc.suvankar.dictionaryapi.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A Bloom filter of the lookup keys of the entry words and conjugated forms, so that the words in no
+ * entry, misspellings mostly, are answered without a query. Built after the imports and stored in the
+ * lookup_filter table, loaded from there at startup.
+ * <p>
+ * Without a filter, before the first import or when it can not be built, every word is looked up. The
+ * filter is rebuilt when an import ends, the words new to an import are found once its job is finished.
+ * Words no longer in the dictionary only pass the filter until then.
+ */
+@Service
+public class LookupFilterService {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(LookupFilterService.class);
+
+    private static final String KEYS = "SELECT entry_word_key FROM dictionary_entry WHERE entry_word_key IS NOT NULL "
+            + "UNION SELECT conjugated_form_key FROM verb_morphology_entry WHERE conjugated_form_key IS NOT NULL";
+
+    private final LookupFilterRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter lookupsFiltered;
+
+    // rate of the words in no entry that are looked up anyway, 0 to look every word up
+    @Value("${dictionary.lookup-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    // null to look every word up
+    private volatile BloomFilter filter;
+
+    public LookupFilterService(LookupFilterRepository repository, JdbcTemplate jdbcTemplate,
+            MeterRegistry registry) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.lookupsFiltered = Counter.builder("dictionary.lookups.filtered")
+                .description("Lookups of words in no entry answered without the database")
+                .register(registry);
+    }
+
+    @PostConstruct
+    void init() {
+        if (!isEnabled()) {
+            LOG.info("The lookup filter is disabled.");
+            return;
+        }
+        try {
+            Optional<LookupFilter> stored = repository.findFirstByOrderByIdDesc();
+            if (stored.isEmpty()) {
+                LOG.info("No lookup filter stored, it is built after the next import.");
+            } else if (stored.get().getFalsePositiveRate() != falsePositiveRate) {
+                LOG.info("The lookup filter was built for a false positive rate of {}, it is built again after "
+                        + "the next import.", stored.get().getFalsePositiveRate());
+            } else {
+                filter = BloomFilter.fromBytes(stored.get().getBits(), stored.get().getHashFunctions());
+                LOG.info("Loaded the lookup filter of {} words, built at {}.", stored.get().getKeyCount(),
+                        stored.get().getBuiltAt());
+            }
+        } catch (DataAccessException | IllegalArgumentException e) {
+            LOG.warn("Unable to load the lookup filter, looking every word up: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @param key the word as looked up
+     * @return Returns false if no entry has the word as lookup key, true if one may have
+     */
+    public boolean mightContain(String key) {
+        BloomFilter current = filter;
+        if (current == null || current.mightContain(key)) {
+            return true;
+        }
+        lookupsFiltered.increment();
+        return false;
+    }
+
+    /**
+     * @return Returns true if the filter is enabled but not built yet
+     */
+    public boolean isMissing() {
+        return isEnabled() && filter == null;
+    }
+
+    /**
+     * Build the filter from the keys in the database and store it in place of the previous one. If that
+     * fails every word is looked up, a filter missing keys would hide their entries.
+     */
+    public void rebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            List<String> keys = jdbcTemplate.queryForList(KEYS, String.class);
+            BloomFilter built = BloomFilter.create(keys.size(), falsePositiveRate);
+            keys.forEach(built::put);
+
+            // not in one transaction: a crash in between leaves no filter, the next import builds it again
+            repository.deleteAllInBatch();
+            repository.save(new LookupFilter(null, keys.size(), falsePositiveRate, built.hashFunctions(),
+                    built.toBytes(), Instant.now()));
+            filter = built;
+            LOG.info("Built the lookup filter of {} words, {} bits, {} hash functions.", keys.size(),
+                    built.bitCount(), built.hashFunctions());
+        } catch (DataAccessException e) {
+            filter = null;
+            LOG.error("Unable to build the lookup filter, looking every word up: {}", e.getMessage());
+        }
+    }
+
+    private boolean isEnabled() {
+        return falsePositiveRate > 0;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.models.Quote;
+import cc.suvankar.dictionaryapi.models.VerbMorphologyEntry;
+import cc.suvankar.dictionaryapi.utils.MemoryDictionary;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Looks the words up in a {@link MemoryDictionary} of all entries of the database, loaded at startup and
+ * again after each import. Until the first load every word is reported as not found.
+ */
+@Component
+@ConditionalOnProperty(name = "dictionary.lookup", havingValue = "memory")
+public class MemoryEntryLookup implements EntryLookup {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(MemoryEntryLookup.class);
+
+    // entries read at a time, with their child rows, so that only the dictionary is kept whole
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile MemoryDictionary dictionary;
+
+    public MemoryEntryLookup(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    @Override
+    public List<DictionaryEntry> findEntriesByWord(String word) {
+        MemoryDictionary current = dictionary;
+        return current == null ? List.of() : current.find(word);
+    }
+
+    @Override
+    public void entriesChanged() {
+        reload();
+    }
+
+    /**
+     * Load all entries of the database again. Lookups running meanwhile use the previous dictionary, which
+     * is also kept if the load fails.
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        try {
+            MemoryDictionary loaded = load();
+            dictionary = loaded;
+            LOG.info("Serving {} entries under {} words from memory, {} distinct strings, about {} MB, "
+                    + "loaded in {} ms.", loaded.getEntryCount(), loaded.getKeyCount(), loaded.getStringCount(),
+                    loaded.footprint() / (1024 * 1024), System.currentTimeMillis() - start);
+        } catch (DataAccessException e) {
+            LOG.error("Could not load the entries in memory: {}", e.getMessage());
+        }
+    }
+
+    private MemoryDictionary load() {
+        MemoryDictionary.Builder builder = MemoryDictionary.builder();
+        long after = Long.MIN_VALUE;
+        while (true) {
+            // by id, the order of the database lookup
+            Map<Long, DictionaryEntry> entries = new LinkedHashMap<>();
+            jdbcTemplate.query("SELECT id, entry_word, head_word, etymology, source FROM dictionary_entry "
+                    + "WHERE id > ? ORDER BY id LIMIT ?", resultSet -> {
+                        DictionaryEntry entry = new DictionaryEntry();
+                        entry.setEntryWord(resultSet.getString(2));
+                        entry.setHeadWord(resultSet.getString(3));
+                        entry.setEtymology(resultSet.getString(4));
+                        entry.getSynonym().setSource(resultSet.getString(5));
+                        entries.put(resultSet.getLong(1), entry);
+                    }, after, LOAD_CHUNK_SIZE);
+            if (entries.isEmpty()) {
+                return builder.build();
+            }
+            Long first = entries.keySet().iterator().next();
+            for (Long id : entries.keySet()) {
+                after = id;
+            }
+            loadChildren(entries, first, after);
+            entries.values().forEach(builder::add);
+        }
+    }
+
+    /**
+     * Add the child rows of the entries with an id from first to last, the fetch of the child rows of the
+     * database lookup uses the same indexes.
+     */
+    private void loadChildren(Map<Long, DictionaryEntry> entries, long first, long last) {
+        jdbcTemplate.query("SELECT dictionary_entry_id, definition, source, mark FROM definition "
+                + "WHERE dictionary_entry_id BETWEEN ? AND ? ORDER BY dictionary_entry_id, id",
+                resultSet -> {
+                    entries.get(resultSet.getLong(1)).getDefinitions().add(
+                            new Definition(resultSet.getString(2), resultSet.getString(3), resultSet.getString(4)));
+                }, first, last);
+        jdbcTemplate.query("SELECT dictionary_entry_id, parts_of_speech FROM dictionary_entry_parts_of_speech "
+                + "WHERE dictionary_entry_id BETWEEN ? AND ?",
+                resultSet -> {
+                    entries.get(resultSet.getLong(1)).getPartsOfSpeech().add(resultSet.getString(2));
+                }, first, last);
+        jdbcTemplate.query("SELECT dictionary_entry_id, synonym FROM synonyms "
+                + "WHERE dictionary_entry_id BETWEEN ? AND ?",
+                resultSet -> {
+                    entries.get(resultSet.getLong(1)).getSynonym().getSynonymList().add(resultSet.getString(2));
+                }, first, last);
+        jdbcTemplate.query("SELECT dictionary_entry_id, text, author, source FROM quote "
+                + "WHERE dictionary_entry_id BETWEEN ? AND ? ORDER BY dictionary_entry_id, id",
+                resultSet -> {
+                    entries.get(resultSet.getLong(1)).getQuotes().add(
+                            new Quote(resultSet.getString(2), resultSet.getString(3), resultSet.getString(4)));
+                }, first, last);
+
+        Map<Long, VerbMorphologyEntry> verbs = new HashMap<>();
+        jdbcTemplate.query("SELECT dictionary_entry_id, id, conjugated_form FROM verb_morphology_entry "
+                + "WHERE dictionary_entry_id BETWEEN ? AND ? ORDER BY dictionary_entry_id, id",
+                resultSet -> {
+                    VerbMorphologyEntry verb = new VerbMorphologyEntry();
+                    verb.setConjugatedForm(resultSet.getString(3));
+                    entries.get(resultSet.getLong(1)).getVerbMorphologyEntries().add(verb);
+                    verbs.put(resultSet.getLong(2), verb);
+                }, first, last);
+        jdbcTemplate.query("SELECT p.verb_morphology_entry_id, p.parts_of_speech "
+                + "FROM verb_morphology_entry_parts_of_speech p JOIN verb_morphology_entry v "
+                + "ON v.id = p.verb_morphology_entry_id WHERE v.dictionary_entry_id BETWEEN ? AND ?",
+                resultSet -> {
+                    verbs.get(resultSet.getLong(1)).getPartsOfSpeech().add(resultSet.getString(2));
+                }, first, last);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Multi-row INSERTs with syncing turned off and a large page cache. Since everything is one
+ * transaction, a crash during the load only loses the load itself.
+ */
+class SqliteBulkLoader extends MultiRowBulkLoader {
+
+    // in KiB when negative
+    private static final int BULK_CACHE_SIZE = -256 * 1024;
+
+    private String synchronous;
+    private String cacheSize;
+
+    @Override
+    public void begin(Connection connection) throws SQLException {
+        synchronous = pragma(connection, "synchronous");
+        cacheSize = pragma(connection, "cache_size");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA synchronous = OFF");
+            statement.execute("PRAGMA cache_size = " + BULK_CACHE_SIZE);
+        }
+    }
+
+    @Override
+    public void restartSequence(Connection connection, String sequenceName, long nextValue) throws SQLException {
+        // Hibernate emulates sequences with a single row table on SQLite
+        try (PreparedStatement update = connection.prepareStatement("UPDATE " + sequenceName + " SET next_val = ?")) {
+            update.setLong(1, nextValue);
+            update.executeUpdate();
+        }
+    }
+
+    @Override
+    public void end(Connection connection) throws SQLException {
+        super.end(connection);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA synchronous = " + synchronous);
+            statement.execute("PRAGMA cache_size = " + cacheSize);
+        }
+    }
+
+    private static String pragma(Connection connection, String name) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("PRAGMA " + name)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
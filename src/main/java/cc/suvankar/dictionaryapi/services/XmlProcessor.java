@@ -17,157 +17,514 @@
 
 package cc.suvankar.dictionaryapi.services;
 
+import cc.suvankar.dictionaryapi.data.QuarantinedBlock;
+import cc.suvankar.dictionaryapi.exceptions.XmlParserException;
 import cc.suvankar.dictionaryapi.exceptions.XmlProcessorException;
 import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.parser.BlockPreprocessor;
+import cc.suvankar.dictionaryapi.parser.BlockTokenizer;
+import cc.suvankar.dictionaryapi.parser.ParsedBlock;
 import cc.suvankar.dictionaryapi.parser.XmlParser;
+import cc.suvankar.dictionaryapi.utils.BlockReader;
+import cc.suvankar.dictionaryapi.utils.DuplicateEntryIndex;
+import cc.suvankar.dictionaryapi.utils.EntryKeys;
 import cc.suvankar.dictionaryapi.utils.FileReaderUtil;
+import io.micrometer.core.instrument.Gauge;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 @Service
 public class XmlProcessor {
     private static final Logger LOG = LoggerFactory
             .getLogger(XmlProcessor.class);
 
+    // marks the end of the file for the persist workers, compared by identity
+    private static final DictionaryEntry END_OF_FILE = new DictionaryEntry();
+
+    // length of the error column of the quarantine
+    private static final int MAX_ERROR_LENGTH = 1000;
+
     private final XmlParser xmlParser;
-    private final DictionaryEntryService dbService;
+    private final BlockTokenizer blockTokenizer;
+    private final BlockPreprocessor blockPreprocessor;
+    private final EntryWriter entryWriter;
+    private final IngestionMetrics metrics;
+    private final IngestionScheduler scheduler;
+    private final BlockQuarantine quarantine;
+
+    // entries parsed but not yet persisted, the parser waits when the queue is full
+    @Value("${dictionary.ingestion.queue-capacity:1000}")
+    private int queueCapacity = 1000;
+
+    // persist workers of each file, they run on the persist pool of the scheduler
+    @Value("${dictionary.ingestion.persist-workers:2}")
+    private int persistWorkers = 2;
 
+    @Value("${dictionary.ingestion.batch-size:100}")
+    private int batchSize = 100;
+
+    // blocks read ahead and parsed together, bounds the memory of the parallel parse
+    @Value("${dictionary.ingestion.parse-window:2048}")
+    private int parseWindow = 2048;
+
+    /**
+     * @param scheduler parse pool, persist pool and write permits shared by all files, null to parse on
+     *                  the calling thread and persist on threads of each file, without a write limit
+     * @param quarantine where the blocks the parser fails on are kept, null to only log them
+     */
     public XmlProcessor(XmlParser xmlParser,
-            DictionaryEntryService dbService) {
+            BlockTokenizer blockTokenizer,
+            BlockPreprocessor blockPreprocessor,
+            EntryWriter entryWriter,
+            IngestionMetrics metrics,
+            IngestionScheduler scheduler,
+            BlockQuarantine quarantine) {
         this.xmlParser = xmlParser;
-        this.dbService = dbService;
+        this.blockTokenizer = blockTokenizer;
+        this.blockPreprocessor = blockPreprocessor;
+        this.entryWriter = entryWriter;
+        this.metrics = metrics;
+        this.scheduler = scheduler;
+        this.quarantine = quarantine;
     }
 
-    public void processAndPersistXml(String fileName) {
-        LOG.info("Parsing file {}", fileName);
+    /**
+     * Parse the given CIDE file and persist its entries. Parsing runs on the calling thread and hands
+     * the entries over a bounded queue to the persist workers, so both overlap and at most
+     * queue-capacity entries are held in memory.
+     * @param fileName name of the file inside the GCIDE resource directory
+     * @return Returns the number of entries parsed and persisted, entries that failed to save are logged
+     */
+    public PersistResult processAndPersistXml(String fileName) {
+        return processAndPersistXml(fileName, ImportListener.NONE);
+    }
+
+    /**
+     * Same as {@link #processAndPersistXml(String)}, reporting the persisted entries to the listener.
+     * <p>
+     * The blocks the parser fails on are returned in the result and not quarantined here, see
+     * {@link #quarantine}: an {@link EntryWriter} that commits only after the import may hold the only write
+     * lock of the database until then.
+     * @throws XmlProcessorException if the listener cancels the import
+     */
+    public PersistResult processAndPersistXml(String fileName, ImportListener listener) {
+        LOG.info("Parsing and persisting file {} with {} persist workers.", fileName, persistWorkers);
+
+        IngestionMetrics.FileMetrics fileMetrics = metrics.forFile(fileName);
+        BlockingQueue<DictionaryEntry> queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge queueDepth = fileMetrics.queueDepth(queue);
+        AtomicLong persisted = new AtomicLong();
+        ExecutorService ownPool = scheduler == null ? Executors.newFixedThreadPool(persistWorkers) : null;
+        ExecutorService persistPool = ownPool != null ? ownPool : scheduler.persistPool();
+        List<Future<?>> workers = new ArrayList<>(persistWorkers);
+        for (int i = 0; i < persistWorkers; i++) {
+            workers.add(persistPool.submit(() -> drainIntoDatabase(fileName, queue, persisted, listener, fileMetrics)));
+        }
+
+        long[] parsed = new long[1];
+        long duplicateCount;
+        List<QuarantinedBlock> failed = new ArrayList<>();
         try {
-            String xmlFileContent = FileReaderUtil.readFile(fileName);
+            duplicateCount = parseXml(fileName, fileMetrics, entry -> {
+                if (listener.isCancelled()) {
+                    throw new XmlProcessorException("Import of " + fileName + " was cancelled");
+                }
+                parsed[0]++;
+                put(queue, entry);
+            }, failed);
+        } finally {
+            boolean endQueued = false;
+            try {
+                put(queue, END_OF_FILE);
+                endQueued = true;
+            } finally {
+                awaitWorkers(workers, endQueued);
+                if (ownPool != null) {
+                    ownPool.shutdown();
+                }
+                fileMetrics.remove(queueDepth);
+            }
+        }
 
-            int pTagIndexStart = 0, pTagIndexEnd = 0;
-            String pTagContent;
-            DictionaryEntry prevEntry = null;
+        LOG.info("Database persist of {} complete, {} entries saved.", fileName, persisted.get());
+        return new PersistResult(parsed[0], duplicateCount, persisted.get(), failed);
+    }
 
-            List<DictionaryEntry> dictionaryEntries = new LinkedList<>();
+    /**
+     * @param parsed entries parsed from the file, without the duplicates
+     * @param duplicates entries dropped as duplicates
+     * @param persisted entries written by the {@link EntryWriter}
+     * @param failedBlocks the blocks the parser failed on, not quarantined yet
+     */
+    public record PersistResult(long parsed, long duplicates, long persisted, List<QuarantinedBlock> failedBlocks) {
 
-            while ((pTagIndexStart = xmlFileContent.indexOf("<p>", pTagIndexStart)) != -1) {
-                pTagIndexEnd = xmlFileContent.indexOf("</p>", pTagIndexStart + 3);
-                if (pTagIndexEnd == -1)
-                    break;
+        public boolean isComplete() {
+            return persisted == parsed;
+        }
+    }
 
-                pTagContent = xmlFileContent.substring(pTagIndexStart, pTagIndexEnd + 4);
+    /**
+     * Parse every &lt;p&gt; block of the given CIDE file into {@link DictionaryEntry} objects,
+     * without touching the database. Duplicate entries of the file are dropped.
+     * @param fileName name of the file inside the GCIDE resource directory
+     * @return Returns the parsed entries in file order
+     */
+    public List<DictionaryEntry> parseXml(String fileName) {
+        List<DictionaryEntry> dictionaryEntries = new LinkedList<>();
+        parseXml(fileName, dictionaryEntries::add);
+        return dictionaryEntries;
+    }
 
-                int pTagStartCount, pTagEndCount;
-                pTagStartCount = countOccurrences(pTagContent, "<p>");
-                pTagEndCount = countOccurrences(pTagContent, "</p>");
+    /**
+     * Parse every &lt;p&gt; block of the given CIDE file and hand over each entry once it is complete,
+     * that is once the next entry starts or the file ends, in file order.
+     * <p>
+     * The blocks are read in windows of parse-window blocks. With a parse pool (see
+     * {@link IngestionScheduler#parsePool()}) the blocks of a window are parsed in parallel, then stitched
+     * in file order, so continuation blocks join the same entry as with a sequential parse, also across
+     * window boundaries.
+     * <p>
+     * Duplicate entries of the file are dropped, see {@link DuplicateEntryIndex}. Only the entries of the
+     * file itself are compared, so which entries of a file are kept never depends on the other files
+     * imported with it. Blocks the parser fails on are skipped, once the file is read they replace the
+     * blocks of the file in the {@link BlockQuarantine}.
+     * @param fileName name of the file inside the GCIDE resource directory
+     * @param sink receives the completed entries, with their {@link EntryKeys} ordinal set
+     */
+    public void parseXml(String fileName, Consumer<DictionaryEntry> sink) {
+        List<QuarantinedBlock> failed = new ArrayList<>();
+        parseXml(fileName, metrics.forFile(fileName), sink, failed);
+        quarantine(fileName, failed);
+    }
 
-                // System.out.println(pTagContent);
-                // System.out.println(pTagStartCount+" "+pTagEndCount);
+    /**
+     * @param failed receives the blocks the parser fails on
+     * @return Returns the number of duplicate entries dropped
+     */
+    private long parseXml(String fileName, IngestionMetrics.FileMetrics fileMetrics, Consumer<DictionaryEntry> sink,
+            List<QuarantinedBlock> failed) {
+        DuplicateEntryIndex duplicates = new DuplicateEntryIndex();
+        EntryKeys.Ordinals ordinals = new EntryKeys.Ordinals();
+        long[] duplicateCount = new long[1];
+        Consumer<DictionaryEntry> keyedSink = entry -> {
+            // the ordinal counts the duplicates too, so the keys of the other entries do not depend on them
+            entry.setOrdinal(ordinals.next(entry));
+            fileMetrics.entryParsed();
+            if (duplicates.isDuplicate(entry)) {
+                fileMetrics.duplicateDropped();
+                duplicateCount[0]++;
+                return;
+            }
+            sink.accept(entry);
+        };
+        try (BlockReader blocks = FileReaderUtil.openBlocks(fileName, blockTokenizer)) {
+            String block;
+            Window window = new Window(parseWindow);
+            DictionaryEntry prevEntry = null;
 
-                // more <p> tag inside <p></p> tag, keep reading
-                while (pTagEndCount != pTagStartCount) {
-                    pTagIndexEnd = xmlFileContent.indexOf("</p>", pTagIndexEnd + 4);
-                    pTagContent = xmlFileContent.substring(pTagIndexStart, pTagIndexEnd + 4);
-                    pTagStartCount = countOccurrences(pTagContent, "<p>");
-                    pTagEndCount = countOccurrences(pTagContent, "</p>");
+            long scanStart = System.nanoTime();
+            while ((block = blocks.next()) != null) {
+                window.add(block, blocks.offset());
+                if (window.isFull()) {
+                    fileMetrics.blocksScanned(window.size(), System.nanoTime() - scanStart);
+                    parseWindow(window, fileMetrics);
+                    prevEntry = stitch(fileName, window, prevEntry, keyedSink, failed, fileMetrics);
+                    window.clear();
+                    scanStart = System.nanoTime();
                 }
+            }
+            fileMetrics.blocksScanned(window.size(), System.nanoTime() - scanStart);
+            parseWindow(window, fileMetrics);
+            prevEntry = stitch(fileName, window, prevEntry, keyedSink, failed, fileMetrics);
 
-                // pre processing to ignore some tags
-                pTagContent = pTagContent
-                        .replaceAll("(?s)<!--.*?-->", "") // remove all the comments
-                        .replaceAll("<\\?/", "")// replace all (<?/) with ''
-                        .replaceAll("<ldquo/", "\"")
-                        .replaceAll("<rdquo/", "\"")
-                        .replaceAll("<lsquo/", "'")
-                        .replaceAll("<rsquo/", "'")
-                        .replaceAll("<lt/", "&lt")
-                        .replaceAll("<gt/", "&gt")
-                        .replaceAll("<(\\w+)/", "{$1/}") // replace all <acr/ like patterns with /{acr/}
-                        .replaceAll("(?i)\\{br\\s*/?}", "")
-                        .replaceAll("&(?!\\w+;)", "&amp;") // ignore & characters
-                        .replaceAll("<cs>", "").replaceAll("</cs>", "")
-                        .replaceAll("<note>", "").replaceAll("</note>", "");
-
-                Pattern incompleteCommentTagPattern = Pattern.compile("<p>.*?<!--(?!.*?-->).*?</p>",
-                        Pattern.DOTALL);
-                Matcher matcher = incompleteCommentTagPattern.matcher(pTagContent);
-                if (matcher.find()) {
-                    pTagIndexStart = pTagIndexEnd;
-                    continue;
-                }
+            if (prevEntry != null) {
+                keyedSink.accept(prevEntry);
+            }
+            if (duplicateCount[0] > 0) {
+                LOG.info("Dropped {} duplicate entries of {}.", duplicateCount[0], fileName);
+            }
+            return duplicateCount[0];
 
-                // get the definition
-                DictionaryEntry entry = xmlParser.parseDefinition(pTagContent);
-                if (entry != null) {
-                    dictionaryEntries.add(entry);
-                    prevEntry = entry;
-                } else {
-                    if (prevEntry != null) {
-                        xmlParser.parseQuote(pTagContent, prevEntry);
-                        xmlParser.parseMoreDefinition(pTagContent, prevEntry);
-                        xmlParser.parseMoreSynonyms(pTagContent, prevEntry);
-                    }
-                }
+        } catch (IOException | URISyntaxException e) {
+            throw new XmlProcessorException(e.getMessage(), e);
+        }
+    }
 
-                pTagIndexStart = pTagIndexEnd;
+    /**
+     * Parse a single block the way the import does.
+     * @return Returns the error the block fails to parse with, or null if it parses
+     */
+    public String parseError(String block) {
+        try {
+            parseBlock(block);
+            return null;
+        } catch (RuntimeException e) {
+            return errorMessage(e);
+        }
+    }
+
+    private void parseWindow(Window window, IngestionMetrics.FileMetrics fileMetrics) {
+        long start = System.nanoTime();
+        ForkJoinPool parsePool = scheduler != null ? scheduler.parsePool() : null;
+        if (parsePool == null) {
+            for (int i = 0; i < window.size(); i++) {
+                parse(window, i);
             }
+        } else {
+            parsePool.invoke(new ParseTask(window, 0, window.size()));
+        }
+        fileMetrics.windowParsed(System.nanoTime() - start);
+    }
 
-            LOG.info("Parsing of file {} is complete, now persisting into Database.", fileName);
-            // parsing is done, now persist into database
-            saveIntoDatabaseMultiThread(dictionaryEntries);
+    /**
+     * Parse a block of the window, a block the parser fails on gets an error instead of a parsed block.
+     */
+    private void parse(Window window, int i) {
+        try {
+            window.parsedBlocks[i] = parseBlock(window.blocks.get(i));
+        } catch (RuntimeException e) {
+            window.errors[i] = errorMessage(e);
+        }
+    }
 
-            LOG.info("Database persist of {} complete.", fileName);
+    private ParsedBlock parseBlock(String block) {
+        // pre processing to ignore some tags, null if the block has an unterminated comment
+        String pTagContent = blockPreprocessor.preprocess(block, 0, block.length());
+        if (pTagContent == null) {
+            throw new XmlParserException("Unterminated comment");
+        }
+        // get the definition, or the quote/definition/synonyms of the previous entry
+        return xmlParser.parseBlock(pTagContent);
+    }
 
-        } catch (IOException | URISyntaxException e) {
-            throw new XmlProcessorException(e.getMessage(), e);
+    private static String errorMessage(RuntimeException e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.toString();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    /**
+     * Join the continuation blocks to their entries, in file order. The blocks that failed to parse are
+     * added to the failed blocks, a continuation block after them goes to the entry before them.
+     * @return Returns the last entry, still open for the continuation blocks of the next window
+     */
+    private static DictionaryEntry stitch(String fileName, Window window, DictionaryEntry prevEntry,
+            Consumer<DictionaryEntry> sink, List<QuarantinedBlock> failed, IngestionMetrics.FileMetrics fileMetrics) {
+        for (int i = 0; i < window.size(); i++) {
+            ParsedBlock parsedBlock = window.parsedBlocks[i];
+            if (parsedBlock == null) {
+                fileMetrics.malformedBlockSkipped();
+                LOG.warn("Skipped the block of {} at offset {}: {}", fileName, window.offsets[i],
+                        window.errors[i]);
+                failed.add(new QuarantinedBlock(null, fileName, window.offsets[i], window.blocks.get(i),
+                        window.errors[i], Instant.now()));
+                continue;
+            }
+            if (parsedBlock.isEntry()) {
+                if (prevEntry != null) {
+                    sink.accept(prevEntry);
+                }
+                prevEntry = parsedBlock.getEntry();
+            } else if (prevEntry != null && !parsedBlock.isEmpty()) {
+                parsedBlock.attachTo(prevEntry);
+                fileMetrics.continuationAttached();
+            }
         }
+        return prevEntry;
     }
 
-    private void saveIntoDatabaseMultiThread(List<DictionaryEntry> dictionaryEntries) {
-        if (dictionaryEntries.isEmpty()) {
-            LOG.warn("No entries to save into database.");
+    /**
+     * Replace the quarantined blocks of the file. A failure is only logged, the entries of the file are
+     * not affected by it.
+     * @param failed the blocks the last parse of the file failed on, may be empty
+     */
+    public void quarantine(String fileName, List<QuarantinedBlock> failed) {
+        if (!failed.isEmpty()) {
+            LOG.warn("Quarantined {} blocks of {}.", failed.size(), fileName);
+        }
+        if (quarantine == null) {
             return;
         }
-        LOG.info("Saving {} entries into database.", dictionaryEntries.size());
-        // Only use half of the available processors for parsing
-        // to avoid overloading the system
-        // and allow other processes to run smoothly.
-        int numberOfThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
-        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            if (scheduler != null) {
+                scheduler.acquireWrite();
+            }
+            try {
+                quarantine.replace(fileName, failed);
+            } finally {
+                if (scheduler != null) {
+                    scheduler.releaseWrite();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new XmlProcessorException("Interrupted while waiting to quarantine the blocks of " + fileName, e);
+        } catch (Exception e) {
+            LOG.error("Unable to quarantine the blocks of {}: {}", fileName, e.getMessage());
+        }
+    }
+
+    /**
+     * The blocks read ahead, with their offsets in the file, and once parsed the parsed block or the
+     * error of each block.
+     */
+    private static final class Window {
+        private final List<String> blocks;
+        private final long[] offsets;
+        private final ParsedBlock[] parsedBlocks;
+        private final String[] errors;
 
-        for (DictionaryEntry entry : dictionaryEntries) {
-            executorService.submit(() -> dbService.save(entry));
+        Window(int capacity) {
+            this.blocks = new ArrayList<>(capacity);
+            this.offsets = new long[capacity];
+            this.parsedBlocks = new ParsedBlock[capacity];
+            this.errors = new String[capacity];
         }
 
-        executorService.shutdown();
+        void add(String block, long offset) {
+            offsets[blocks.size()] = offset;
+            blocks.add(block);
+        }
+
+        int size() {
+            return blocks.size();
+        }
+
+        boolean isFull() {
+            return blocks.size() == offsets.length;
+        }
+
+        void clear() {
+            blocks.clear();
+            Arrays.fill(parsedBlocks, null);
+            Arrays.fill(errors, null);
+        }
+    }
+
+    /**
+     * Parses a range of blocks of a window, splitting it in halves until it is small enough.
+     */
+    private class ParseTask extends RecursiveAction {
+        private static final int THRESHOLD = 64;
+
+        private final Window window;
+        private final int from;
+        private final int to;
+
+        ParseTask(Window window, int from, int to) {
+            this.window = window;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    parse(window, i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParseTask(window, from, middle), new ParseTask(window, middle, to));
+        }
+    }
+
+    private void drainIntoDatabase(String fileName, BlockingQueue<DictionaryEntry> queue, AtomicLong persisted,
+            ImportListener listener, IngestionMetrics.FileMetrics fileMetrics) {
+        List<DictionaryEntry> batch = new ArrayList<>(batchSize);
         try {
-            if (!executorService.awaitTermination(60, TimeUnit.MINUTES)) {
-                executorService.shutdownNow();
+            boolean endOfFile = false;
+            while (!endOfFile) {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+
+                int last = batch.size() - 1;
+                if (batch.get(last) == END_OF_FILE) {
+                    // nothing comes after the marker, pass it on to the next worker
+                    batch.remove(last);
+                    queue.put(END_OF_FILE);
+                    endOfFile = true;
+                }
+
+                if (!batch.isEmpty()) {
+                    saveBatch(fileName, batch, persisted, listener, fileMetrics);
+                    batch.clear();
+                }
             }
         } catch (InterruptedException e) {
-            executorService.shutdownNow();
             Thread.currentThread().interrupt();
         }
     }
 
-    private static int countOccurrences(String str, String sub) {
-        int count = 0, index = 0;
+    private void saveBatch(String fileName, List<DictionaryEntry> batch, AtomicLong persisted,
+            ImportListener listener, IngestionMetrics.FileMetrics fileMetrics) throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.acquireWrite();
+        }
+        try {
+            long start = System.nanoTime();
+            int written = entryWriter.write(fileName, batch);
+            fileMetrics.batchPersisted(System.nanoTime() - start);
+            persisted.addAndGet(written);
+            listener.entriesPersisted(fileName, written);
+        } catch (Exception e) {
+            LOG.error("Error saving batch of {} entries: {}", batch.size(), e.getMessage());
+        } finally {
+            if (scheduler != null) {
+                scheduler.releaseWrite();
+            }
+        }
+    }
 
-        while ((index = str.indexOf(sub, index)) != -1) {
-            count++;
-            index += sub.length();
+    /**
+     * Wait for the persist workers of the file to drain the queue. Without the end marker they would wait
+     * for it forever, so they are cancelled instead.
+     */
+    private static void awaitWorkers(List<Future<?>> workers, boolean endQueued) {
+        if (!endQueued) {
+            workers.forEach(worker -> worker.cancel(true));
+            return;
+        }
+        try {
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    LOG.error("Persist worker failed: {}", e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            workers.forEach(worker -> worker.cancel(true));
+            Thread.currentThread().interrupt();
         }
+    }
 
-        return count;
+    private static void put(BlockingQueue<DictionaryEntry> queue, DictionaryEntry entry) {
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new XmlProcessorException("Interrupted while waiting for the persist workers", e);
+        }
     }
 }
@@ -0,0 +1,434 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.models.Quote;
+import cc.suvankar.dictionaryapi.models.Synonym;
+import cc.suvankar.dictionaryapi.models.VerbMorphologyEntry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read only dictionary in a single binary file, looked up through a memory mapping without a database.
+ * Written with a {@link Builder}.
+ * <p>
+ * Layout, all integers big endian:
+ * <pre>
+ * header       int magic, int version, int key count, int entry count,
+ *              int key table offset, int entry table offset, 32 bytes hash of the CIDE files
+ * key table    per key, sorted by the unsigned UTF-8 bytes of the key: int key offset, int postings offset
+ * entry table  per entry: int record offset
+ * keys         per key: varint length, UTF-8 bytes of the lower case entry word or conjugated form
+ * postings     per key: varint count of entry word matches, varint count of conjugated form matches,
+ *              the entry numbers of both
+ * records      per entry: varint length, then the fields of the entry
+ * </pre>
+ * Strings in the records are a varint of the UTF-8 length plus one, 0 for null, and the UTF-8 bytes.
+ * <p>
+ * A lookup binary searches the key table comparing the mapped bytes in place, the only objects created
+ * are the entries found.
+ */
+public final class BinaryDictionary implements Closeable {
+
+    private static final int MAGIC = 0x43494442; // CIDB
+    private static final int VERSION = 1;
+    private static final int HASH_LENGTH = 32;
+    private static final int HEADER_LENGTH = 24 + HASH_LENGTH;
+    private static final int KEY_SLOT_LENGTH = 8;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer bytes;
+    private final int keyCount;
+    private final int entryCount;
+    private final int keyTable;
+    private final int entryTable;
+    private final String sourceHash;
+
+    private BinaryDictionary(FileChannel channel, MappedByteBuffer bytes) throws IOException {
+        this.channel = channel;
+        this.bytes = bytes;
+        if (bytes.limit() < HEADER_LENGTH || bytes.getInt(0) != MAGIC) {
+            throw new IOException("Not a binary dictionary");
+        }
+        if (bytes.getInt(4) != VERSION) {
+            throw new IOException("Unsupported binary dictionary version " + bytes.getInt(4));
+        }
+        this.keyCount = bytes.getInt(8);
+        this.entryCount = bytes.getInt(12);
+        this.keyTable = bytes.getInt(16);
+        this.entryTable = bytes.getInt(20);
+        byte[] hash = new byte[HASH_LENGTH];
+        bytes.get(24, hash);
+        this.sourceHash = HexFormat.of().formatHex(hash);
+    }
+
+    /**
+     * Map a file written by a {@link Builder}.
+     */
+    public static BinaryDictionary open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to be mapped: " + file);
+            }
+            return new BinaryDictionary(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return Returns the hash of the CIDE files the dictionary was written from, hex encoded
+     */
+    public String getSourceHash() {
+        return sourceHash;
+    }
+
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Same result as the database lookup: the entries whose {@link LookupKeys} key of the entry word is the
+     * word, then the entries with a conjugated form whose key is the word, once per matching form.
+     * @return Returns the entries in the order they were written, empty if there are none
+     */
+    public List<DictionaryEntry> find(String word) {
+        int slot = findKey(word.getBytes(StandardCharsets.UTF_8));
+        if (slot < 0) {
+            return List.of();
+        }
+        Reader postings = new Reader(bytes, bytes.getInt(keyTable + slot * KEY_SLOT_LENGTH + 4));
+        int matches = postings.varint() + postings.varint();
+        List<DictionaryEntry> entries = new ArrayList<>(matches);
+        for (int i = 0; i < matches; i++) {
+            entries.add(entry(postings.varint()));
+        }
+        return entries;
+    }
+
+    private int findKey(byte[] key) {
+        int low = 0;
+        int high = keyCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareKey(bytes.getInt(keyTable + mid * KEY_SLOT_LENGTH), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareKey(int offset, byte[] key) {
+        // the varint length, read in place, this runs for every probe of every lookup
+        int length = 0;
+        int start = offset;
+        for (int shift = 0; ; shift += 7) {
+            byte b = bytes.get(start++);
+            length |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        for (int i = 0, n = Math.min(length, key.length); i < n; i++) {
+            int cmp = Byte.compareUnsigned(bytes.get(start + i), key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private DictionaryEntry entry(int number) {
+        Reader header = new Reader(bytes, bytes.getInt(entryTable + number * 4));
+        int length = header.varint();
+        byte[] record = new byte[length];
+        bytes.get(header.position, record);
+        return readEntry(new Reader(ByteBuffer.wrap(record), 0));
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the mapping itself is released once the buffer is garbage collected
+        channel.close();
+    }
+
+    /**
+     * @return Returns a {@link Builder} for a new binary dictionary
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Collects the entries of a new binary dictionary, encoded as they are added, so the parsed entries do
+     * not have to be kept until the file is written.
+     */
+    public static final class Builder {
+        // lower case word -> entry numbers, entry word matches and conjugated form matches
+        private final Map<String, Postings> index = new HashMap<>();
+        private final Writer records = new Writer();
+        private final List<Integer> recordOffsets = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add the next entry, lookups return the entries in the order they were added.
+         */
+        public Builder add(DictionaryEntry entry) {
+            int number = recordOffsets.size();
+            index.computeIfAbsent(LookupKeys.normalize(entry.getEntryWord()), k -> new Postings()).entryWords.add(number);
+            for (VerbMorphologyEntry verb : entry.getVerbMorphologyEntries()) {
+                if (verb.getConjugatedForm() != null) {
+                    index.computeIfAbsent(LookupKeys.normalize(verb.getConjugatedForm()), k -> new Postings())
+                            .conjugatedForms.add(number);
+                }
+            }
+            recordOffsets.add(records.size());
+            byte[] record = writeEntry(entry);
+            records.varint(record.length);
+            records.write(record, 0, record.length);
+            return this;
+        }
+
+        public int size() {
+            return recordOffsets.size();
+        }
+
+        /**
+         * Write the binary dictionary. The file is replaced at once, so a reader never sees a partial file.
+         * @param sourceHash hash of the CIDE files the entries come from, hex encoded SHA-256
+         */
+        public void write(Path file, String sourceHash) throws IOException {
+            byte[][] keys = index.keySet().stream()
+                    .map(key -> key.getBytes(StandardCharsets.UTF_8))
+                    .sorted(Arrays::compareUnsigned)
+                    .toArray(byte[][]::new);
+            Writer keyData = new Writer();
+            int[] keyOffsets = new int[keys.length];
+            int[] postingOffsets = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                keyOffsets[i] = keyData.size();
+                keyData.varint(keys[i].length);
+                keyData.write(keys[i], 0, keys[i].length);
+                postingOffsets[i] = keyData.size();
+                Postings postings = index.get(new String(keys[i], StandardCharsets.UTF_8));
+                keyData.varint(postings.entryWords.size());
+                keyData.varint(postings.conjugatedForms.size());
+                postings.entryWords.forEach(keyData::varint);
+                postings.conjugatedForms.forEach(keyData::varint);
+            }
+
+            long keyTable = HEADER_LENGTH;
+            long entryTable = keyTable + (long) keys.length * KEY_SLOT_LENGTH;
+            long keysStart = entryTable + (long) recordOffsets.size() * 4;
+            long recordsStart = keysStart + keyData.size();
+            if (recordsStart + records.size() > Integer.MAX_VALUE) {
+                throw new IOException("Too many entries for a binary dictionary");
+            }
+
+            ByteBuffer tables = ByteBuffer.allocate((int) keysStart);
+            tables.putInt(MAGIC).putInt(VERSION).putInt(keys.length).putInt(recordOffsets.size())
+                    .putInt((int) keyTable).putInt((int) entryTable)
+                    .put(HexFormat.of().parseHex(sourceHash));
+            for (int i = 0; i < keys.length; i++) {
+                tables.putInt((int) keysStart + keyOffsets[i]).putInt((int) keysStart + postingOffsets[i]);
+            }
+            for (int recordOffset : recordOffsets) {
+                tables.putInt((int) recordsStart + recordOffset);
+            }
+
+            Path partial = Files.createTempFile(file.toAbsolutePath().getParent(), "dictionary", ".partial");
+            try (OutputStream out = Files.newOutputStream(partial)) {
+                out.write(tables.array());
+                keyData.writeTo(out);
+                records.writeTo(out);
+            }
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private static byte[] writeEntry(DictionaryEntry entry) {
+        Writer out = new Writer();
+        out.string(entry.getEntryWord());
+        out.string(entry.getHeadWord());
+        out.string(entry.getEtymology());
+
+        out.varint(entry.getDefinitions().size());
+        for (Definition definition : entry.getDefinitions()) {
+            out.string(definition.getDefinition());
+            out.string(definition.getSource());
+            out.string(definition.getMark());
+        }
+
+        out.strings(entry.getPartsOfSpeech());
+
+        Synonym synonym = entry.getSynonym() != null ? entry.getSynonym() : new Synonym();
+        out.strings(synonym.getSynonymList());
+        out.string(synonym.getSource());
+
+        out.varint(entry.getVerbMorphologyEntries().size());
+        for (VerbMorphologyEntry verb : entry.getVerbMorphologyEntries()) {
+            out.string(verb.getConjugatedForm());
+            out.strings(verb.getPartsOfSpeech());
+        }
+
+        out.varint(entry.getQuotes().size());
+        for (Quote quote : entry.getQuotes()) {
+            out.string(quote.getText());
+            out.string(quote.getAuthor());
+            out.string(quote.getSource());
+        }
+        return out.toByteArray();
+    }
+
+    private static DictionaryEntry readEntry(Reader in) {
+        DictionaryEntry entry = new DictionaryEntry();
+        entry.setEntryWord(in.string());
+        entry.setHeadWord(in.string());
+        entry.setEtymology(in.string());
+
+        for (int i = in.varint(); i > 0; i--) {
+            entry.getDefinitions().add(new Definition(in.string(), in.string(), in.string()));
+        }
+
+        in.strings(entry.getPartsOfSpeech());
+
+        in.strings(entry.getSynonym().getSynonymList());
+        entry.getSynonym().setSource(in.string());
+
+        for (int i = in.varint(); i > 0; i--) {
+            VerbMorphologyEntry verb = new VerbMorphologyEntry();
+            verb.setConjugatedForm(in.string());
+            in.strings(verb.getPartsOfSpeech());
+            entry.getVerbMorphologyEntries().add(verb);
+        }
+
+        for (int i = in.varint(); i > 0; i--) {
+            entry.getQuotes().add(new Quote(in.string(), in.string(), in.string()));
+        }
+        return entry;
+    }
+
+    private static final class Postings {
+        private final List<Integer> entryWords = new ArrayList<>();
+        private final List<Integer> conjugatedForms = new ArrayList<>();
+    }
+
+    private static final class Writer extends ByteArrayOutputStream {
+
+        void varint(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void string(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            varint(utf8.length + 1);
+            write(utf8, 0, utf8.length);
+        }
+
+        void strings(Collection<String> values) {
+            varint(values.size());
+            values.forEach(this::string);
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer bytes;
+        private int position;
+
+        Reader(ByteBuffer bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        int varint() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes.get(position++);
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+
+        String string() {
+            int length = varint() - 1;
+            if (length < 0) {
+                return null;
+            }
+            String value = bytes.hasArray()
+                    ? new String(bytes.array(), bytes.arrayOffset() + position, length, StandardCharsets.UTF_8)
+                    : decode(length);
+            position += length;
+            return value;
+        }
+
+        private String decode(int length) {
+            byte[] utf8 = new byte[length];
+            bytes.get(position, utf8);
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        void strings(Collection<String> target) {
+            for (int i = varint(); i > 0; i--) {
+                target.add(string());
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Forward only iterator over the &lt;p&gt; ... &lt;/p&gt; blocks of one CIDE file.
+ * Only the current block is decoded, the file itself is never held as a String.
+ */
+public interface BlockReader extends Closeable {
+    /**
+     * @return Returns the next complete block, or null when there is no more. An unterminated block
+     * at the end of the file ends the iteration.
+     */
+    String next() throws IOException;
+
+    /**
+     * @return Returns the offset in bytes of the block last returned by {@link #next()} from the start
+     * of the file
+     */
+    long offset();
+}
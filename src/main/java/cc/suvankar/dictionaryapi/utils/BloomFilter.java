@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A Bloom filter of strings: {@link #mightContain} is false for a string never put, and true for a
+ * string put. For a string never put it is also true with the false positive rate the filter was
+ * created with.
+ * <p>
+ * Each string sets hashFunctions bits, at positions derived from a single 64-bit hash by double hashing
+ * (Kirsch and Mitzenmacher). Not thread safe while strings are put, safe to share once built.
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    private BloomFilter(long[] bits, int hashFunctions) {
+        this.bits = bits;
+        this.bitCount = (long) bits.length * Long.SIZE;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * @param expectedKeys number of strings that will be put
+     * @param falsePositiveRate rate of strings never put that the filter lets through, between 0 and 1
+     * @return Returns an empty filter sized for the keys
+     */
+    public static BloomFilter create(int expectedKeys, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        int keys = Math.max(1, expectedKeys);
+        // m = -n ln p / (ln 2)^2 bits and k = m / n ln 2 hash functions minimize the rate
+        long bitCount = (long) Math.ceil(-keys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (bitCount + Long.SIZE - 1) / Long.SIZE);
+        int hashFunctions = (int) Math.max(1, Math.round((double) words * Long.SIZE / keys * Math.log(2)));
+        return new BloomFilter(new long[words], hashFunctions);
+    }
+
+    /**
+     * @param bytes the bits as written by {@link #toBytes()}
+     * @param hashFunctions the {@link #hashFunctions()} of the filter written
+     * @return Returns the filter written
+     */
+    public static BloomFilter fromBytes(byte[] bytes, int hashFunctions) {
+        if (bytes.length == 0 || bytes.length % Long.BYTES != 0 || hashFunctions < 1) {
+            throw new IllegalArgumentException("Not a Bloom filter: " + bytes.length + " bytes, "
+                    + hashFunctions + " hash functions");
+        }
+        long[] bits = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(bits);
+        return new BloomFilter(bits, hashFunctions);
+    }
+
+    public void put(String key) {
+        long hash = hash(key);
+        long step = step(hash);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(hash + i * step, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * @return Returns false if the key was never put, true if it may have been
+     */
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        long step = step(hash);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(hash + i * step, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * @return Returns the bits, 8 bytes per 64 bits, big endian
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(bits.length * Long.BYTES);
+        buffer.asLongBuffer().put(bits);
+        return buffer.array();
+    }
+
+    /**
+     * @return Returns the 64-bit FNV-1a hash of the characters, mixed so that all its bits depend on all
+     * the characters
+     */
+    private static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    // odd, never 0, so the hash functions of a key do not all set the same bit
+    private static long step(long hash) {
+        return mix(hash ^ 0x9e3779b97f4a7c15L) | 1;
+    }
+
+    // the finalizer of MurmurHash3
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -31,6 +31,7 @@ public class DictionaryEntryMapper {
             entityDef.setDefinition(pojoDef.getDefinition());
             entityDef.setMark(pojoDef.getMark());
             entityDef.setSource(pojoDef.getSource());
+            entityDef.setDictionaryEntry(entity);
             entity.getDefinitions().add(entityDef);
         }
 
@@ -46,6 +47,7 @@ public class DictionaryEntryMapper {
             cc.suvankar.dictionaryapi.data.VerbMorphologyEntry entityVerb = new cc.suvankar.dictionaryapi.data.VerbMorphologyEntry();
             entityVerb.setConjugatedForm(pojoVerb.getConjugatedForm());
             entityVerb.getPartsOfSpeech().addAll(pojoVerb.getPartsOfSpeech());
+            entityVerb.setDictionaryEntry(entity);
             entity.getVerbMorphologyEntries().add(entityVerb);
         }
 
@@ -54,6 +56,7 @@ public class DictionaryEntryMapper {
             entityQuote.setSource(pojoQuote.getSource());
             entityQuote.setAuthor(pojoQuote.getAuthor());
             entityQuote.setText(pojoQuote.getText());
+            entityQuote.setDictionaryEntry(entity);
             entity.getQuotes().add(entityQuote);
         }
 
@@ -74,11 +77,12 @@ public class DictionaryEntryMapper {
             entity.getDefinitions().add(entityDef);
         }
 
-        entity.setPartsOfSpeech(pojo.getPartsOfSpeech());
+        // copied, so that the entry does not hold collections of the session
+        entity.getPartsOfSpeech().addAll(pojo.getPartsOfSpeech());
 
         cc.suvankar.dictionaryapi.models.Synonym entitySyn = new cc.suvankar.dictionaryapi.models.Synonym();
         entitySyn.setSource(pojo.getSynonym().getSource());
-        entitySyn.setSynonymList(pojo.getSynonym().getSynonymList());
+        entitySyn.getSynonymList().addAll(pojo.getSynonym().getSynonymList());
         entity.setSynonym(entitySyn);
 
         for(cc.suvankar.dictionaryapi.data.VerbMorphologyEntry pojoVerb: pojo.getVerbMorphologyEntries()) {
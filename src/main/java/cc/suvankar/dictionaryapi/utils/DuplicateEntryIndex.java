@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The entries seen so far in a file, to drop duplicates before they reach the database. In memory only,
+ * safe to share between threads.
+ * <p>
+ * Entries are indexed by a 64-bit hash of their entry word, head word and first definition, compared case
+ * insensitively and with the whitespace collapsed. An entry is a duplicate when an entry with the same
+ * key and the same content (see {@link EntryKeys#contentHash}) was seen before. Entries that share the
+ * key but not the content, like a noun and a verb both defined "Same as Whap.", are different senses and
+ * are kept.
+ */
+public final class DuplicateEntryIndex {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // every content seen with each key, not only the first
+    private final Set<Seen> seen = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Add the entry to the index, unless it is a duplicate.
+     * @return Returns true if the same entry was added before, by any thread
+     */
+    public boolean isDuplicate(DictionaryEntry entry) {
+        return !seen.add(new Seen(key(entry), fingerprint(entry)));
+    }
+
+    /**
+     * @return Returns the number of different entries in the index
+     */
+    public int size() {
+        return seen.size();
+    }
+
+    /**
+     * @return Returns the 64-bit FNV-1a hash of the normalized entry word, head word and first definition
+     */
+    static long key(DictionaryEntry entry) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = hash(hash, entry.getEntryWord());
+        hash = hash(hash, entry.getHeadWord());
+        return hash(hash, entry.getDefinitions().isEmpty() ? null : entry.getDefinitions().get(0).getDefinition());
+    }
+
+    private record Seen(long key, long content) {
+    }
+
+    private static long fingerprint(DictionaryEntry entry) {
+        return Long.parseUnsignedLong(EntryKeys.contentHash(entry), 0, 16, 16);
+    }
+
+    /**
+     * Hash the lower case text with every run of whitespace as a single space and no leading or trailing
+     * whitespace, without building that string. Each value ends with a separator, so that moving text
+     * from one field to the next changes the hash.
+     */
+    private static long hash(long hash, String value) {
+        if (value != null) {
+            boolean pendingSpace = false;
+            boolean started = false;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    pendingSpace = started;
+                    continue;
+                }
+                if (pendingSpace) {
+                    hash = hash(hash, ' ');
+                    pendingSpace = false;
+                }
+                hash = hash(hash, Character.toLowerCase(c));
+                started = true;
+            }
+        }
+        // not a char, null and empty hash differently
+        return (hash ^ (value == null ? 0x100 : 0x101)) * FNV_PRIME;
+    }
+
+    private static long hash(long hash, char c) {
+        hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        return (hash ^ (c & 0xff)) * FNV_PRIME;
+    }
+}
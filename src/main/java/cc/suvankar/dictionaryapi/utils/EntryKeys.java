@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.models.Quote;
+import cc.suvankar.dictionaryapi.models.VerbMorphologyEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Natural key and content hash of the entries of a CIDE file, to tell which entries changed between
+ * two imports of the file.
+ * <p>
+ * Within a file, an entry is identified by its entry word, its head word and its ordinal, the number of
+ * entries with the same entry word and head word before it in the file. Entries added or removed
+ * elsewhere in the file do not change the key.
+ */
+public final class EntryKeys {
+
+    private EntryKeys() {
+    }
+
+    /**
+     * @return Returns the key of the entry within its file
+     */
+    public static String key(DictionaryEntry entry) {
+        return key(entry.getEntryWord(), entry.getHeadWord(), entry.getOrdinal());
+    }
+
+    public static String key(String entryWord, String headWord, Integer ordinal) {
+        return entryWord + '\u0000' + headWord + '\u0000' + ordinal;
+    }
+
+    /**
+     * @return Returns the SHA-256 of everything the entry holds, hex encoded
+     */
+    public static String contentHash(DictionaryEntry entry) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform has to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        update(digest, entry.getEntryWord());
+        update(digest, entry.getHeadWord());
+        update(digest, entry.getEtymology());
+        update(digest, entry.getPartsOfSpeech());
+        for (Definition definition : entry.getDefinitions()) {
+            update(digest, definition.getMark());
+            update(digest, definition.getSource());
+            update(digest, definition.getDefinition());
+        }
+        update(digest, entry.getSynonym().getSource());
+        update(digest, entry.getSynonym().getSynonymList());
+        for (Quote quote : entry.getQuotes()) {
+            update(digest, quote.getAuthor());
+            update(digest, quote.getSource());
+            update(digest, quote.getText());
+        }
+        for (VerbMorphologyEntry verb : entry.getVerbMorphologyEntries()) {
+            update(digest, verb.getConjugatedForm());
+            update(digest, verb.getPartsOfSpeech());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, Collection<String> values) {
+        update(digest, values.size());
+        for (String value : values) {
+            update(digest, value);
+        }
+    }
+
+    // length prefixed, so that moving text from one field to the next changes the hash
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            update(digest, -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        update(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void update(MessageDigest digest, int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+    }
+
+    /**
+     * Hands out the ordinals of the entries of one file. The entries have to be passed in file order,
+     * not thread safe.
+     */
+    public static final class Ordinals {
+        private final Map<String, Integer> counts = new HashMap<>();
+
+        public int next(DictionaryEntry entry) {
+            return counts.merge(entry.getEntryWord() + '\u0000' + entry.getHeadWord(), 1, Integer::sum) - 1;
+        }
+    }
+}
@@ -17,15 +17,90 @@
 
 package cc.suvankar.dictionaryapi.utils;
 
+import cc.suvankar.dictionaryapi.parser.BlockTokenizer;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Objects;
 
 public class FileReaderUtil {
     public static String readFile(String fileName) throws IOException, URISyntaxException {
+        return Files.readString(Paths.get(getResource(fileName).toURI()));
+    }
+
+    /**
+     * Open the given CIDE file for block by block reading. The file is memory mapped when it is on the
+     * file system, and read as a stream when it is inside the packaged jar.
+     * @param fileName name of the file inside the GCIDE resource directory
+     * @return Returns a {@link BlockReader}, to be closed by the caller
+     */
+    public static BlockReader openBlocks(String fileName, BlockTokenizer tokenizer)
+            throws IOException, URISyntaxException {
+        URL resource = getResource(fileName);
+        if ("file".equals(resource.getProtocol())) {
+            return new MappedBlockReader(Paths.get(resource.toURI()), tokenizer);
+        }
+        return new StreamBlockReader(resource.openStream(), tokenizer);
+    }
+
+    /**
+     * @return Returns the names of all CIDE.*.xml files of the GCIDE resource directory, also when it
+     * is inside the packaged jar
+     */
+    public static List<String> listFiles() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver(FileReaderUtil.class.getClassLoader())
+                .getResources("classpath:GCIDE/CIDE.*.xml");
+        return Arrays.stream(resources)
+                .map(Resource::getFilename)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * @param fileName name of the file inside the GCIDE resource directory
+     * @return Returns the SHA-256 of the file content, hex encoded
+     */
+    public static String contentHash(String fileName) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform has to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = getResource(fileName).openStream()) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @param fileName name of the file inside the GCIDE resource directory
+     * @return Returns the size of the file in bytes, also when it is inside the packaged jar
+     */
+    public static long size(String fileName) throws IOException {
+        return new UrlResource(getResource(fileName)).contentLength();
+    }
+
+    private static URL getResource(String fileName) {
         ClassLoader classLoader = FileReaderUtil.class.getClassLoader();
-        return Files.readString(Paths.get(Objects.requireNonNull(classLoader.getResource("GCIDE/" + fileName)).toURI()));
+        return Objects.requireNonNull(classLoader.getResource("GCIDE/" + fileName), "GCIDE/" + fileName);
     }
 }
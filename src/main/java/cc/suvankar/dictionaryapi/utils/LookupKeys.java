@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import java.util.Locale;
+
+/**
+ * The key a word is looked up by. It is stored next to the entry words and the conjugated forms, so that
+ * the lookups compare indexed columns instead of lower(...) of them, and gives the same result on every
+ * database: the lower() of SQLite only folds ASCII.
+ */
+public final class LookupKeys {
+
+    private LookupKeys() {
+    }
+
+    /**
+     * @return Returns the lookup key of the word, null for null
+     */
+    public static String normalize(String word) {
+        return word == null ? null : word.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import cc.suvankar.dictionaryapi.parser.BlockTokenizer;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link BlockReader} over a memory mapped file. The blocks are found on the raw UTF-8 bytes
+ * and decoded one at a time, so the heap only ever holds the current block.
+ */
+class MappedBlockReader implements BlockReader {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer bytes;
+    private final BlockTokenizer tokenizer;
+    private byte[] scratch = new byte[8192];
+    private int position = 0;
+    private int blockStart = 0;
+
+    MappedBlockReader(Path file, BlockTokenizer tokenizer) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        if (channel.size() > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException("File is too large to be mapped: " + file);
+        }
+        this.bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        this.tokenizer = tokenizer;
+    }
+
+    @Override
+    public String next() {
+        if (position == -1) {
+            return null;
+        }
+        int start = tokenizer.nextBlockStart(bytes, position);
+        int end = start == -1 ? -1 : tokenizer.blockEnd(bytes, start);
+        if (end == -1) {
+            position = -1;
+            return null;
+        }
+        position = end;
+        blockStart = start;
+
+        int length = end - start;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        bytes.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public long offset() {
+        return blockStart;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the mapping itself is released once the buffer is garbage collected
+        channel.close();
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.models.Quote;
+import cc.suvankar.dictionaryapi.models.VerbMorphologyEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read only dictionary held in memory in a few arrays, for the lookups of a dictionary small enough to
+ * keep whole. Built with a {@link Builder}.
+ * <p>
+ * Every distinct string (words, definitions, sources, parts of speech...) is stored once in a string
+ * table, the fields of the entries are int indexes into it, -1 for null. The entries are columns: an
+ * array per field, indexed by entry number, and for each collection an array of start indexes into the
+ * arrays of its elements. The keys are found with an open addressing hash table of key numbers, linear
+ * probing, the postings of a key are a range of entry numbers.
+ * <p>
+ * A lookup builds only the entries it returns. Immutable and safe to share between threads.
+ */
+public final class MemoryDictionary {
+
+    private static final int NULL = -1;
+
+    // the distinct strings
+    private final String[] strings;
+
+    // key number + 1 by hash, 0 for an empty slot, the length is a power of two
+    private final int[] slots;
+    // per key: the string of the key, the start of its postings, entry word matches first
+    private final int[] keys;
+    private final int[] postingStarts;
+    private final int[] postings;
+
+    // per entry
+    private final int[] entryWords;
+    private final int[] headWords;
+    private final int[] etymologies;
+    private final int[] synonymSources;
+    private final Column definitions;
+    private final Column partsOfSpeech;
+    private final Column synonyms;
+    private final Column verbs;
+    private final Column quotes;
+
+    // per verb morphology entry
+    private final Column verbPartsOfSpeech;
+
+    private MemoryDictionary(Builder builder) {
+        Map<String, Postings> index = builder.index;
+        keys = new int[index.size()];
+        postingStarts = new int[index.size() + 1];
+        IntArray allPostings = new IntArray();
+        slots = new int[Integer.highestOneBit(Math.max(1, index.size()) * 2 - 1) * 2];
+        int key = 0;
+        for (Map.Entry<String, Postings> posting : index.entrySet()) {
+            keys[key] = builder.string(posting.getKey());
+            postingStarts[key] = allPostings.size;
+            allPostings.addAll(posting.getValue().entryWords);
+            allPostings.addAll(posting.getValue().conjugatedForms);
+            int slot = slot(posting.getKey());
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & (slots.length - 1);
+            }
+            slots[slot] = ++key;
+        }
+        postingStarts[key] = allPostings.size;
+        postings = allPostings.toArray();
+        // after the keys, which add the lower case words
+        strings = builder.strings.toArray(new String[0]);
+
+        entryWords = builder.entryWords.toArray();
+        headWords = builder.headWords.toArray();
+        etymologies = builder.etymologies.toArray();
+        synonymSources = builder.synonymSources.toArray();
+        definitions = builder.definitions.build();
+        partsOfSpeech = builder.partsOfSpeech.build();
+        synonyms = builder.synonyms.build();
+        verbs = builder.verbs.build();
+        quotes = builder.quotes.build();
+        verbPartsOfSpeech = builder.verbPartsOfSpeech.build();
+    }
+
+    public int getKeyCount() {
+        return keys.length;
+    }
+
+    public int getEntryCount() {
+        return entryWords.length;
+    }
+
+    public int getStringCount() {
+        return strings.length;
+    }
+
+    /**
+     * Same result as the database lookup: the entries whose {@link LookupKeys} key of the entry word is the
+     * word, then the entries with a conjugated form whose key is the word, once per matching form.
+     * @return Returns new entries, in the order they were added, empty if there are none
+     */
+    public List<DictionaryEntry> find(String word) {
+        int key = findKey(word);
+        if (key < 0) {
+            return List.of();
+        }
+        List<DictionaryEntry> entries = new ArrayList<>(postingStarts[key + 1] - postingStarts[key]);
+        for (int i = postingStarts[key]; i < postingStarts[key + 1]; i++) {
+            entries.add(entry(postings[i]));
+        }
+        return entries;
+    }
+
+    /**
+     * @return Returns about the bytes taken by the arrays and the strings, on a 64-bit JVM with compressed
+     * references and compact strings
+     */
+    public long footprint() {
+        long bytes = arrayBytes(strings.length, 4);
+        for (String string : strings) {
+            boolean latin1 = string.chars().allMatch(c -> c <= 0xFF);
+            bytes += 24 + arrayBytes(string.length(), latin1 ? 1 : 2);
+        }
+        for (int[] array : new int[][] { slots, keys, postingStarts, postings, entryWords, headWords, etymologies,
+                synonymSources }) {
+            bytes += arrayBytes(array.length, 4);
+        }
+        for (Column column : new Column[] { definitions, partsOfSpeech, synonyms, verbs, quotes, verbPartsOfSpeech }) {
+            bytes += column.footprint();
+        }
+        return bytes;
+    }
+
+    private int findKey(String word) {
+        for (int slot = slot(word); slots[slot] != 0; slot = (slot + 1) & (slots.length - 1)) {
+            int key = slots[slot] - 1;
+            if (strings[keys[key]].equals(word)) {
+                return key;
+            }
+        }
+        return -1;
+    }
+
+    private int slot(String word) {
+        // String caches its hash code, spread so that the low bits depend on all of it
+        int hash = word.hashCode() * 0x9e3779b9;
+        return (hash ^ (hash >>> 16)) & (slots.length - 1);
+    }
+
+    private DictionaryEntry entry(int number) {
+        DictionaryEntry entry = new DictionaryEntry();
+        entry.setEntryWord(string(entryWords[number]));
+        entry.setHeadWord(string(headWords[number]));
+        entry.setEtymology(string(etymologies[number]));
+        for (int i = definitions.start(number); i < definitions.end(number); i++) {
+            entry.getDefinitions().add(new Definition(string(definitions.field(0, i)),
+                    string(definitions.field(1, i)), string(definitions.field(2, i))));
+        }
+        for (int i = partsOfSpeech.start(number); i < partsOfSpeech.end(number); i++) {
+            entry.getPartsOfSpeech().add(string(partsOfSpeech.field(0, i)));
+        }
+        for (int i = synonyms.start(number); i < synonyms.end(number); i++) {
+            entry.getSynonym().getSynonymList().add(string(synonyms.field(0, i)));
+        }
+        entry.getSynonym().setSource(string(synonymSources[number]));
+        for (int i = verbs.start(number); i < verbs.end(number); i++) {
+            VerbMorphologyEntry verb = new VerbMorphologyEntry();
+            verb.setConjugatedForm(string(verbs.field(0, i)));
+            for (int j = verbPartsOfSpeech.start(i); j < verbPartsOfSpeech.end(i); j++) {
+                verb.getPartsOfSpeech().add(string(verbPartsOfSpeech.field(0, j)));
+            }
+            entry.getVerbMorphologyEntries().add(verb);
+        }
+        for (int i = quotes.start(number); i < quotes.end(number); i++) {
+            entry.getQuotes().add(new Quote(string(quotes.field(0, i)), string(quotes.field(1, i)),
+                    string(quotes.field(2, i))));
+        }
+        return entry;
+    }
+
+    private String string(int index) {
+        return index == NULL ? null : strings[index];
+    }
+
+    private static long arrayBytes(int length, int elementBytes) {
+        // 16 bytes of header, padded to 8 bytes
+        return (16 + (long) length * elementBytes + 7) & ~7L;
+    }
+
+    /**
+     * @return Returns a {@link Builder} for a new memory dictionary
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The elements of a collection of all entries: the string fields of the elements, and per owner the
+     * start of its elements.
+     */
+    private static final class Column {
+        private final int[] starts;
+        private final int[][] fields;
+
+        private Column(int[] starts, int[][] fields) {
+            this.starts = starts;
+            this.fields = fields;
+        }
+
+        int start(int owner) {
+            return starts[owner];
+        }
+
+        int end(int owner) {
+            return starts[owner + 1];
+        }
+
+        // the string index of the field of the element
+        int field(int field, int element) {
+            return fields[field][element];
+        }
+
+        long footprint() {
+            long bytes = arrayBytes(starts.length, 4) + arrayBytes(fields.length, 4);
+            for (int[] field : fields) {
+                bytes += arrayBytes(field.length, 4);
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Collects the entries of a new memory dictionary, encoded as they are added.
+     */
+    public static final class Builder {
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        // lookup key -> entry numbers, in the order of the keys added
+        private final Map<String, Postings> index = new LinkedHashMap<>();
+
+        private final IntArray entryWords = new IntArray();
+        private final IntArray headWords = new IntArray();
+        private final IntArray etymologies = new IntArray();
+        private final IntArray synonymSources = new IntArray();
+        private final ColumnBuilder definitions = new ColumnBuilder(3);
+        private final ColumnBuilder partsOfSpeech = new ColumnBuilder(1);
+        private final ColumnBuilder synonyms = new ColumnBuilder(1);
+        private final ColumnBuilder verbs = new ColumnBuilder(1);
+        private final ColumnBuilder quotes = new ColumnBuilder(3);
+        private final ColumnBuilder verbPartsOfSpeech = new ColumnBuilder(1);
+
+        private Builder() {
+        }
+
+        /**
+         * Add the next entry, lookups return the entries in the order they were added.
+         */
+        public Builder add(DictionaryEntry entry) {
+            int number = entryWords.size;
+            if (entry.getEntryWord() != null) {
+                index.computeIfAbsent(LookupKeys.normalize(entry.getEntryWord()), k -> new Postings())
+                        .entryWords.add(number);
+            }
+            entryWords.add(string(entry.getEntryWord()));
+            headWords.add(string(entry.getHeadWord()));
+            etymologies.add(string(entry.getEtymology()));
+            synonymSources.add(string(entry.getSynonym().getSource()));
+
+            definitions.startOwner();
+            for (Definition definition : entry.getDefinitions()) {
+                definitions.add(string(definition.getDefinition()), string(definition.getSource()),
+                        string(definition.getMark()));
+            }
+            partsOfSpeech.startOwner();
+            entry.getPartsOfSpeech().forEach(partOfSpeech -> partsOfSpeech.add(string(partOfSpeech)));
+            synonyms.startOwner();
+            entry.getSynonym().getSynonymList().forEach(synonym -> synonyms.add(string(synonym)));
+            verbs.startOwner();
+            for (VerbMorphologyEntry verb : entry.getVerbMorphologyEntries()) {
+                if (verb.getConjugatedForm() != null) {
+                    index.computeIfAbsent(LookupKeys.normalize(verb.getConjugatedForm()), k -> new Postings())
+                            .conjugatedForms.add(number);
+                }
+                verbs.add(string(verb.getConjugatedForm()));
+                verbPartsOfSpeech.startOwner();
+                verb.getPartsOfSpeech().forEach(partOfSpeech -> verbPartsOfSpeech.add(string(partOfSpeech)));
+            }
+            quotes.startOwner();
+            for (Quote quote : entry.getQuotes()) {
+                quotes.add(string(quote.getText()), string(quote.getAuthor()), string(quote.getSource()));
+            }
+            return this;
+        }
+
+        public int size() {
+            return entryWords.size;
+        }
+
+        public MemoryDictionary build() {
+            return new MemoryDictionary(this);
+        }
+
+        private int string(String value) {
+            if (value == null) {
+                return NULL;
+            }
+            return stringIndexes.computeIfAbsent(value, v -> {
+                strings.add(v);
+                return strings.size() - 1;
+            });
+        }
+    }
+
+    private static final class Postings {
+        private final IntArray entryWords = new IntArray();
+        private final IntArray conjugatedForms = new IntArray();
+    }
+
+    private static final class ColumnBuilder {
+        private final IntArray starts = new IntArray();
+        private final IntArray[] fields;
+
+        private ColumnBuilder(int fieldCount) {
+            fields = new IntArray[fieldCount];
+            Arrays.setAll(fields, i -> new IntArray());
+        }
+
+        // the elements added next belong to the next owner
+        void startOwner() {
+            starts.add(fields[0].size);
+        }
+
+        void add(int... values) {
+            for (int i = 0; i < fields.length; i++) {
+                fields[i].add(values[i]);
+            }
+        }
+
+        Column build() {
+            starts.add(fields[0].size);
+            int[][] arrays = new int[fields.length][];
+            Arrays.setAll(arrays, i -> fields[i].toArray());
+            return new Column(starts.toArray(), arrays);
+        }
+    }
+
+    private static final class IntArray {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(IntArray other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import cc.suvankar.dictionaryapi.parser.BlockTokenizer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link BlockReader} over a plain stream, for when the GCIDE files can not be mapped, e.g. when they
+ * are packaged inside the jar. Bytes are read into a window that only grows when a single block
+ * does not fit into it.
+ */
+class StreamBlockReader implements BlockReader {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final BlockTokenizer tokenizer;
+    private byte[] buffer;
+    private ByteBuffer window;
+    private int position = 0;
+    private int limit = 0;
+    // bytes of the stream before the window
+    private long consumed = 0;
+    private long blockStart = 0;
+    private boolean eof = false;
+
+    StreamBlockReader(InputStream in, BlockTokenizer tokenizer) {
+        this(in, tokenizer, DEFAULT_BUFFER_SIZE);
+    }
+
+    StreamBlockReader(InputStream in, BlockTokenizer tokenizer, int bufferSize) {
+        this.in = in;
+        this.tokenizer = tokenizer;
+        this.buffer = new byte[bufferSize];
+        this.window = ByteBuffer.wrap(buffer);
+    }
+
+    @Override
+    public String next() throws IOException {
+        int start;
+        while ((start = tokenizer.nextBlockStart(window(), position)) == -1) {
+            // the last bytes may be the beginning of a <p> tag, keep them
+            position = Math.max(position, limit - 2);
+            if (!fill()) {
+                return null;
+            }
+        }
+        position = start;
+
+        int end;
+        while ((end = tokenizer.blockEnd(window(), position)) == -1) {
+            if (!fill()) {
+                return null;
+            }
+        }
+
+        blockStart = consumed + position;
+        String block = new String(buffer, position, end - position, StandardCharsets.UTF_8);
+        position = end;
+        return block;
+    }
+
+    private ByteBuffer window() {
+        return window.limit(limit);
+    }
+
+    /**
+     * Drop the consumed bytes and read more, growing the buffer if it is full.
+     * @return Returns false at the end of the stream
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            consumed += position;
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            byte[] grown = new byte[buffer.length * 2];
+            System.arraycopy(buffer, 0, grown, 0, limit);
+            buffer = grown;
+            window = ByteBuffer.wrap(buffer);
+        }
+        int read = in.read(buffer, limit, buffer.length - limit);
+        if (read == -1) {
+            eof = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    @Override
+    public long offset() {
+        return blockStart;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -9,23 +9,43 @@ DROP TABLE IF EXISTS quote CASCADE;
 DROP TABLE IF EXISTS verb_morphology_entry CASCADE;
 DROP TABLE IF EXISTS verb_morphology_entry_parts_of_speech CASCADE;
 DROP TABLE IF EXISTS dictionary_users CASCADE;
+DROP TABLE IF EXISTS ingestion_manifest CASCADE;
+DROP TABLE IF EXISTS quarantined_block CASCADE;
+DROP TABLE IF EXISTS lookup_filter CASCADE;
+DROP SEQUENCE IF EXISTS dictionary_entry_seq;
+DROP SEQUENCE IF EXISTS definition_seq;
+DROP SEQUENCE IF EXISTS quote_seq;
+DROP SEQUENCE IF EXISTS verb_morphology_entry_seq;
+
+-----------------------------
+-- Id sequences, incremented by the allocationSize of the entities
+-----------------------------
+CREATE SEQUENCE dictionary_entry_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE definition_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE quote_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE verb_morphology_entry_seq START WITH 1 INCREMENT BY 50;
 
 -----------------------------
 -- Table Definitions
 -----------------------------
 CREATE TABLE dictionary_entry (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    id BIGINT NOT NULL,
     entry_word VARCHAR(255),
     head_word VARCHAR(255),
+    entry_word_key VARCHAR(255),
     source VARCHAR(255),
     etymology TEXT,
+    source_file VARCHAR(255),
+    entry_ordinal INTEGER,
+    content_hash VARCHAR(64),
     PRIMARY KEY (id)
 );
 
+CREATE INDEX idx_dictionary_entry_source_file ON dictionary_entry (source_file);
+
 CREATE TABLE synonyms (
     dictionary_entry_id INTEGER,
-    synonym TEXT,
-    FOREIGN KEY (dictionary_entry_id) REFERENCES dictionary_entry(id)
+    synonym TEXT
 );
 
 
@@ -35,7 +55,7 @@ CREATE TABLE dictionary_entry_parts_of_speech (
 );
 
 CREATE TABLE definition (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    id BIGINT NOT NULL,
     dictionary_entry_id BIGINT,
     mark VARCHAR(255),
     source VARCHAR(255),
@@ -44,7 +64,7 @@ CREATE TABLE definition (
 );
 
 CREATE TABLE quote (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    id BIGINT NOT NULL,
     dictionary_entry_id BIGINT,
     author VARCHAR(1000),
     source VARCHAR(255),
@@ -53,9 +73,10 @@ CREATE TABLE quote (
 );
 
 CREATE TABLE verb_morphology_entry (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    id BIGINT NOT NULL,
     dictionary_entry_id BIGINT,
     conjugated_form VARCHAR(255),
+    conjugated_form_key VARCHAR(255),
     PRIMARY KEY (id)
 );
 
@@ -64,6 +85,17 @@ CREATE TABLE verb_morphology_entry_parts_of_speech (
     parts_of_speech VARCHAR(255)
 );
 
+-- lookups and the fetch of the child rows of an entry
+CREATE INDEX idx_dictionary_entry_entry_word_key ON dictionary_entry (entry_word_key);
+CREATE INDEX idx_dictionary_entry_parts_of_speech_dictionary_entry_id ON dictionary_entry_parts_of_speech (dictionary_entry_id);
+CREATE INDEX idx_synonyms_dictionary_entry_id ON synonyms (dictionary_entry_id);
+CREATE INDEX idx_definition_dictionary_entry_id ON definition (dictionary_entry_id);
+CREATE INDEX idx_quote_dictionary_entry_id ON quote (dictionary_entry_id);
+CREATE INDEX idx_verb_morphology_entry_dictionary_entry_id ON verb_morphology_entry (dictionary_entry_id);
+CREATE INDEX idx_verb_morphology_entry_conjugated_form_key ON verb_morphology_entry (conjugated_form_key);
+CREATE INDEX idx_verb_morphology_entry_parts_of_speech_verb_morphology_entry_id
+    ON verb_morphology_entry_parts_of_speech (verb_morphology_entry_id);
+
 
 CREATE TABLE dictionary_users (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -72,10 +104,47 @@ CREATE TABLE dictionary_users (
     role VARCHAR(10) DEFAULT 'USER'
 );
 
+-- one row per imported CIDE file
+CREATE TABLE ingestion_manifest (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_name VARCHAR(255) NOT NULL UNIQUE,
+    content_hash VARCHAR(64),
+    entry_count BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    started_at TIMESTAMP WITH TIME ZONE,
+    completed_at TIMESTAMP WITH TIME ZONE
+);
+
+-- blocks the parser failed on, see QuarantinedBlock
+CREATE TABLE quarantined_block (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_name VARCHAR(255) NOT NULL,
+    block_offset BIGINT NOT NULL,
+    block TEXT,
+    error VARCHAR(1000),
+    quarantined_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_quarantined_block_file_name ON quarantined_block (file_name);
+
+CREATE TABLE lookup_filter (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    key_count INT NOT NULL,
+    false_positive_rate DOUBLE PRECISION NOT NULL,
+    hash_functions INT NOT NULL,
+    bits BLOB,
+    built_at TIMESTAMP WITH TIME ZONE
+);
+
 
 -----------------------------
 -- Foreign Key Constraints
 -----------------------------
+ALTER TABLE synonyms
+    ADD CONSTRAINT fk_synonyms_dictionary_entry
+    FOREIGN KEY (dictionary_entry_id)
+    REFERENCES dictionary_entry;
+
 ALTER TABLE definition
     ADD CONSTRAINT fk_definition_dictionary_entry
     FOREIGN KEY (dictionary_entry_id)
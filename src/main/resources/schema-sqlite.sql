@@ -14,17 +14,44 @@ DROP TABLE IF EXISTS quote;
 DROP TABLE IF EXISTS verb_morphology_entry;
 DROP TABLE IF EXISTS verb_morphology_entry_parts_of_speech;
 DROP TABLE IF EXISTS dictionary_users;
+DROP TABLE IF EXISTS ingestion_manifest;
+DROP TABLE IF EXISTS quarantined_block;
+DROP TABLE IF EXISTS lookup_filter;
+DROP TABLE IF EXISTS dictionary_entry_seq;
+DROP TABLE IF EXISTS definition_seq;
+DROP TABLE IF EXISTS quote_seq;
+DROP TABLE IF EXISTS verb_morphology_entry_seq;
+
+-----------------------------
+-- Id sequences. SQLite has no sequences, Hibernate emulates them with a
+-- single row table holding the next value.
+-----------------------------
+CREATE TABLE dictionary_entry_seq (next_val INTEGER);
+INSERT INTO dictionary_entry_seq VALUES (1);
+CREATE TABLE definition_seq (next_val INTEGER);
+INSERT INTO definition_seq VALUES (1);
+CREATE TABLE quote_seq (next_val INTEGER);
+INSERT INTO quote_seq VALUES (1);
+CREATE TABLE verb_morphology_entry_seq (next_val INTEGER);
+INSERT INTO verb_morphology_entry_seq VALUES (1);
 
 -----------------------------
 -- Table Definitions
 -----------------------------
 CREATE TABLE dictionary_entry (
-    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    id INTEGER PRIMARY KEY,
     entry_word TEXT,
     head_word TEXT,
-    source TEXT
+    entry_word_key TEXT,
+    source TEXT,
+    etymology TEXT,
+    source_file TEXT,
+    entry_ordinal INTEGER,
+    content_hash TEXT
 );
 
+CREATE INDEX idx_dictionary_entry_source_file ON dictionary_entry (source_file);
+
 CREATE TABLE synonyms (
     dictionary_entry_id INTEGER,
     synonym TEXT,
@@ -38,7 +65,7 @@ CREATE TABLE dictionary_entry_parts_of_speech (
 );
 
 CREATE TABLE definition (
-    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    id INTEGER PRIMARY KEY,
     dictionary_entry_id INTEGER,
     mark TEXT,
     source TEXT,
@@ -47,7 +74,7 @@ CREATE TABLE definition (
 );
 
 CREATE TABLE quote (
-    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    id INTEGER PRIMARY KEY,
     dictionary_entry_id INTEGER,
     author TEXT,
     source TEXT,
@@ -56,9 +83,10 @@ CREATE TABLE quote (
 );
 
 CREATE TABLE verb_morphology_entry (
-    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    id INTEGER PRIMARY KEY,
     dictionary_entry_id INTEGER,
     conjugated_form TEXT,
+    conjugated_form_key TEXT,
     FOREIGN KEY (dictionary_entry_id) REFERENCES dictionary_entry(id)
 );
 
@@ -68,6 +96,17 @@ CREATE TABLE verb_morphology_entry_parts_of_speech (
     FOREIGN KEY (verb_morphology_entry_id) REFERENCES verb_morphology_entry(id)
 );
 
+-- lookups and the fetch of the child rows of an entry
+CREATE INDEX idx_dictionary_entry_entry_word_key ON dictionary_entry (entry_word_key);
+CREATE INDEX idx_dictionary_entry_parts_of_speech_dictionary_entry_id ON dictionary_entry_parts_of_speech (dictionary_entry_id);
+CREATE INDEX idx_synonyms_dictionary_entry_id ON synonyms (dictionary_entry_id);
+CREATE INDEX idx_definition_dictionary_entry_id ON definition (dictionary_entry_id);
+CREATE INDEX idx_quote_dictionary_entry_id ON quote (dictionary_entry_id);
+CREATE INDEX idx_verb_morphology_entry_dictionary_entry_id ON verb_morphology_entry (dictionary_entry_id);
+CREATE INDEX idx_verb_morphology_entry_conjugated_form_key ON verb_morphology_entry (conjugated_form_key);
+CREATE INDEX idx_verb_morphology_entry_parts_of_speech_verb_morphology_entry_id
+    ON verb_morphology_entry_parts_of_speech (verb_morphology_entry_id);
+
 CREATE TABLE dictionary_users (
     id INTEGER PRIMARY KEY AUTOINCREMENT,
     username TEXT NOT NULL,
@@ -75,6 +114,38 @@ CREATE TABLE dictionary_users (
     role TEXT DEFAULT 'USER'
 );
 
+-- one row per imported CIDE file
+CREATE TABLE ingestion_manifest (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    file_name TEXT NOT NULL UNIQUE,
+    content_hash TEXT,
+    entry_count INTEGER NOT NULL,
+    status TEXT NOT NULL,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+-- blocks the parser failed on, see QuarantinedBlock
+CREATE TABLE quarantined_block (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    file_name TEXT NOT NULL,
+    block_offset INTEGER NOT NULL,
+    block TEXT,
+    error TEXT,
+    quarantined_at TIMESTAMP
+);
+
+CREATE INDEX idx_quarantined_block_file_name ON quarantined_block (file_name);
+
+CREATE TABLE lookup_filter (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    key_count INTEGER NOT NULL,
+    false_positive_rate REAL NOT NULL,
+    hash_functions INTEGER NOT NULL,
+    bits BLOB,
+    built_at TIMESTAMP
+);
+
 -----------------------------
 -- Enable Foreign Key Constraints
 -----------------------------
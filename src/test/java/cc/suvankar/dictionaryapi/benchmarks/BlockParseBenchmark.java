@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.parser.BlockPreprocessor;
+import cc.suvankar.dictionaryapi.parser.BlockTokenizer;
+import cc.suvankar.dictionaryapi.parser.ParsedBlock;
+import cc.suvankar.dictionaryapi.parser.XmlParser;
+import cc.suvankar.dictionaryapi.parser.XmlParserDOMImpl;
+import cc.suvankar.dictionaryapi.parser.XmlParserStAXImpl;
+import cc.suvankar.dictionaryapi.utils.FileReaderUtil;
+
+/**
+ * Time to turn every preprocessed block of a CIDE file into entries: one
+ * {@link XmlParser#parseBlock(String)} per block against parseDefinition followed by
+ * parseQuote/parseMoreDefinition/parseMoreSynonyms for continuation blocks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BlockParseBenchmark {
+
+	@Param({ "dom", "stax" })
+	private String parserType;
+
+	@Param({ "CIDE.A.xml" })
+	private String fileName;
+
+	private XmlParser parser;
+	private List<String> blocks;
+
+	@Setup
+	public void setup() throws Exception {
+		parser = parserType.equals("dom") ? new XmlParserDOMImpl() : new XmlParserStAXImpl();
+
+		String content = FileReaderUtil.readFile(fileName);
+		BlockPreprocessor preprocessor = new BlockPreprocessor();
+		blocks = new ArrayList<>();
+		BlockTokenizer.Cursor cursor = new BlockTokenizer().cursor(content);
+		while (cursor.next()) {
+			String block = preprocessor.preprocess(content, cursor.start(), cursor.end());
+			if (block != null) {
+				blocks.add(block);
+			}
+		}
+	}
+
+	@Benchmark
+	public List<DictionaryEntry> classifyOnce() {
+		List<DictionaryEntry> entries = new ArrayList<>();
+		DictionaryEntry prevEntry = null;
+		for (String block : blocks) {
+			ParsedBlock parsedBlock = parser.parseBlock(block);
+			if (parsedBlock.isEntry()) {
+				entries.add(parsedBlock.getEntry());
+				prevEntry = parsedBlock.getEntry();
+			} else if (prevEntry != null) {
+				parsedBlock.attachTo(prevEntry);
+			}
+		}
+		return entries;
+	}
+
+	@Benchmark
+	public List<DictionaryEntry> separateParses() {
+		List<DictionaryEntry> entries = new ArrayList<>();
+		DictionaryEntry prevEntry = null;
+		for (String block : blocks) {
+			DictionaryEntry entry = parser.parseDefinition(block);
+			if (entry != null) {
+				entries.add(entry);
+				prevEntry = entry;
+			} else if (prevEntry != null) {
+				parser.parseQuote(block, prevEntry);
+				parser.parseMoreDefinition(block, prevEntry);
+				parser.parseMoreSynonyms(block, prevEntry);
+			}
+		}
+		return entries;
+	}
+
+}
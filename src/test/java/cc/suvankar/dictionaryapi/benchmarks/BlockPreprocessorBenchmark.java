@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cc.suvankar.dictionaryapi.parser.BlockPreprocessor;
+import cc.suvankar.dictionaryapi.parser.BlockTokenizer;
+import cc.suvankar.dictionaryapi.parser.LegacyBlockPreprocessor;
+import cc.suvankar.dictionaryapi.utils.FileReaderUtil;
+
+/**
+ * Preprocessing of every block of CIDE.A.xml, single pass against the old replaceAll chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockPreprocessorBenchmark {
+
+	private String content;
+	private int[] blockOffsets;
+	private BlockPreprocessor preprocessor;
+
+	@Setup
+	public void setup() throws Exception {
+		content = FileReaderUtil.readFile("CIDE.A.xml");
+		preprocessor = new BlockPreprocessor();
+
+		BlockTokenizer.Cursor cursor = new BlockTokenizer().cursor(content);
+		int count = 0;
+		int[] offsets = new int[1024];
+		while (cursor.next()) {
+			if (count + 2 > offsets.length) {
+				offsets = Arrays.copyOf(offsets, offsets.length * 2);
+			}
+			offsets[count++] = cursor.start();
+			offsets[count++] = cursor.end();
+		}
+		blockOffsets = Arrays.copyOf(offsets, count);
+	}
+
+	@Benchmark
+	public void singlePass(Blackhole blackhole) {
+		for (int i = 0; i < blockOffsets.length; i += 2) {
+			blackhole.consume(preprocessor.preprocess(content, blockOffsets[i], blockOffsets[i + 1]));
+		}
+	}
+
+	@Benchmark
+	public void legacyReplaceAllChain(Blackhole blackhole) {
+		for (int i = 0; i < blockOffsets.length; i += 2) {
+			blackhole.consume(LegacyBlockPreprocessor.preprocess(content.substring(blockOffsets[i], blockOffsets[i + 1])));
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cc.suvankar.dictionaryapi.parser.BlockTokenizer;
+import cc.suvankar.dictionaryapi.utils.FileReaderUtil;
+
+/**
+ * Block scanning over the largest CIDE file. The {@code blocks} counter reports blocks/sec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockTokenizerBenchmark {
+
+	private String content;
+	private BlockTokenizer tokenizer;
+
+	@Setup
+	public void setup() throws Exception {
+		content = FileReaderUtil.readFile("CIDE.A.xml");
+		tokenizer = new BlockTokenizer();
+	}
+
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class BlockCounter {
+		public long blocks;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			blocks = 0;
+		}
+	}
+
+	@Benchmark
+	public int tokenizer(BlockCounter counter) {
+		int checksum = 0;
+		BlockTokenizer.Cursor cursor = tokenizer.cursor(content);
+		while (cursor.next()) {
+			checksum += cursor.end() - cursor.start();
+			counter.blocks++;
+		}
+		return checksum;
+	}
+
+	/**
+	 * The indexOf/substring/countOccurrences scan XmlProcessor used before {@link BlockTokenizer}.
+	 */
+	@Benchmark
+	public int legacyIndexOf(BlockCounter counter) {
+		int checksum = 0;
+		int pTagIndexStart = 0, pTagIndexEnd;
+		while ((pTagIndexStart = content.indexOf("<p>", pTagIndexStart)) != -1) {
+			pTagIndexEnd = content.indexOf("</p>", pTagIndexStart + 3);
+			if (pTagIndexEnd == -1)
+				break;
+
+			String pTagContent = content.substring(pTagIndexStart, pTagIndexEnd + 4);
+			while (countOccurrences(pTagContent, "</p>") != countOccurrences(pTagContent, "<p>")) {
+				pTagIndexEnd = content.indexOf("</p>", pTagIndexEnd + 4);
+				pTagContent = content.substring(pTagIndexStart, pTagIndexEnd + 4);
+			}
+
+			checksum += pTagContent.length();
+			counter.blocks++;
+			pTagIndexStart = pTagIndexEnd;
+		}
+		return checksum;
+	}
+
+	private static int countOccurrences(String str, String sub) {
+		int count = 0, index = 0;
+		while ((index = str.indexOf(sub, index)) != -1) {
+			count++;
+			index += sub.length();
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.benchmarks;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import cc.suvankar.dictionaryapi.FreeDictionaryApiApplication;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.services.IngestionService;
+import cc.suvankar.dictionaryapi.services.JpaEntryLookup;
+import cc.suvankar.dictionaryapi.services.MemoryEntryLookup;
+import cc.suvankar.dictionaryapi.services.XmlProcessor;
+import cc.suvankar.dictionaryapi.utils.LookupKeys;
+
+/**
+ * A lookup through the database, {@link JpaEntryLookup} on an in-memory H2 database, against the same
+ * lookup in the memory dictionary of {@link MemoryEntryLookup} loaded from that database. Each operation
+ * looks up the next word of a CIDE file, entry words and conjugated forms in the order of the file, or a
+ * word in no entry for the misses. Scores are nanoseconds per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LookupBenchmark {
+
+	@Param({ "CIDE.A.xml" })
+	private String fileName;
+
+	private ConfigurableApplicationContext context;
+	private JpaEntryLookup jpaEntryLookup;
+	private MemoryEntryLookup memoryEntryLookup;
+	private String[] words;
+
+	@Setup
+	public void setup() throws Exception {
+		context = new SpringApplicationBuilder(FreeDictionaryApiApplication.class)
+				.web(WebApplicationType.NONE)
+				// in place of the h2 profile, the embedded database of the tests; nothing imported at startup
+				.run("--spring.profiles.active=test", "--dictionary.read-only=true",
+						"--dictionary.prebuilt.enabled=false");
+		context.getBean(IngestionService.class).importFiles(List.of(fileName), true);
+		jpaEntryLookup = context.getBean(JpaEntryLookup.class);
+		memoryEntryLookup = new MemoryEntryLookup(context.getBean(JdbcTemplate.class));
+		memoryEntryLookup.reload();
+
+		Set<String> keys = new LinkedHashSet<>();
+		for (DictionaryEntry entry : context.getBean(XmlProcessor.class).parseXml(fileName)) {
+			keys.add(LookupKeys.normalize(entry.getEntryWord()));
+			entry.getVerbMorphologyEntries()
+					.forEach(verb -> keys.add(LookupKeys.normalize(verb.getConjugatedForm())));
+		}
+		words = keys.toArray(new String[0]);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private int next;
+
+		String next(String[] words) {
+			String word = words[next];
+			next = (next + 1) % words.length;
+			return word;
+		}
+	}
+
+	@Benchmark
+	public List<DictionaryEntry> database(Cursor cursor) {
+		return jpaEntryLookup.findEntriesByWord(cursor.next(words));
+	}
+
+	@Benchmark
+	public List<DictionaryEntry> memory(Cursor cursor) {
+		return memoryEntryLookup.findEntriesByWord(cursor.next(words));
+	}
+
+	@Benchmark
+	public List<DictionaryEntry> databaseMiss() {
+		return jpaEntryLookup.findEntriesByWord("zqxw");
+	}
+
+	@Benchmark
+	public List<DictionaryEntry> memoryMiss() {
+		return memoryEntryLookup.findEntriesByWord("zqxw");
+	}
+}
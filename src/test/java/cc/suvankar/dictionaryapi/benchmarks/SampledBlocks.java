@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import cc.suvankar.dictionaryapi.parser.BlockPreprocessor;
+import cc.suvankar.dictionaryapi.parser.BlockTokenizer;
+import cc.suvankar.dictionaryapi.parser.ParsedBlock;
+import cc.suvankar.dictionaryapi.parser.XmlParserStAXImpl;
+import cc.suvankar.dictionaryapi.utils.FileReaderUtil;
+
+/**
+ * Real blocks for the benchmarks, sampled evenly from all CIDE files: preprocessed blocks by kind, and
+ * the raw text of &lt;hw&gt; tags. Every list has {@link #SIZE} elements, a power of two, so a benchmark
+ * can cycle through it with a mask.
+ */
+public final class SampledBlocks {
+
+	public static final int SIZE = 1024;
+
+	private static final Pattern HEAD_WORD = Pattern.compile("<hw>([^<]*)</hw>");
+
+	private static SampledBlocks instance;
+
+	public final String[] entries;
+	public final String[] quotes;
+	public final String[] moreDefinitions;
+	public final String[] synonyms;
+	public final String[] headWords;
+
+	private SampledBlocks(List<String> entries, List<String> quotes, List<String> moreDefinitions,
+			List<String> synonyms, List<String> headWords) {
+		this.entries = sample(entries);
+		this.quotes = sample(quotes);
+		this.moreDefinitions = sample(moreDefinitions);
+		this.synonyms = sample(synonyms);
+		this.headWords = sample(headWords);
+	}
+
+	/**
+	 * Read and classify the blocks of all CIDE files, once per JVM.
+	 */
+	public static synchronized SampledBlocks load() throws Exception {
+		if (instance == null) {
+			List<String> entries = new ArrayList<>();
+			List<String> quotes = new ArrayList<>();
+			List<String> moreDefinitions = new ArrayList<>();
+			List<String> synonyms = new ArrayList<>();
+			List<String> headWords = new ArrayList<>();
+
+			BlockTokenizer tokenizer = new BlockTokenizer();
+			BlockPreprocessor preprocessor = new BlockPreprocessor();
+			XmlParserStAXImpl parser = new XmlParserStAXImpl();
+			for (String fileName : FileReaderUtil.listFiles()) {
+				String content = FileReaderUtil.readFile(fileName);
+				BlockTokenizer.Cursor cursor = tokenizer.cursor(content);
+				while (cursor.next()) {
+					String block = preprocessor.preprocess(content, cursor.start(), cursor.end());
+					if (block == null) {
+						continue;
+					}
+					ParsedBlock parsed = parser.parseBlock(block);
+					if (parsed.isEntry()) {
+						entries.add(block);
+						Matcher headWord = HEAD_WORD.matcher(block);
+						if (headWord.find()) {
+							headWords.add(headWord.group(1));
+						}
+					} else if (parsed.getQuote() != null) {
+						quotes.add(block);
+					} else if (parsed.getDefinition() != null) {
+						moreDefinitions.add(block);
+					} else if (parsed.getSynonyms() != null) {
+						synonyms.add(block);
+					}
+				}
+			}
+			instance = new SampledBlocks(entries, quotes, moreDefinitions, synonyms, headWords);
+		}
+		return instance;
+	}
+
+	/**
+	 * @return Returns {@link #SIZE} elements taken at a regular interval, in file order
+	 */
+	private static String[] sample(List<String> all) {
+		String[] sample = new String[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			sample[i] = all.get((int) ((long) i * all.size() / SIZE));
+		}
+		return sample;
+	}
+}
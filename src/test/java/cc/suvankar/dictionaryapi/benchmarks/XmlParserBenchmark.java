@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.parser.XmlParser;
+import cc.suvankar.dictionaryapi.parser.XmlParserDOMImpl;
+import cc.suvankar.dictionaryapi.parser.XmlParserStAXImpl;
+
+/**
+ * One call of each {@link XmlParser} method on a single block, cycling through blocks sampled from all
+ * CIDE files (see {@link SampledBlocks}). Scores are blocks per second; run with -prof gc (the default of
+ * the jmh profile) for the bytes allocated per block.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlParserBenchmark {
+
+	@Param({ "dom", "stax" })
+	private String parserType;
+
+	private XmlParser parser;
+	private SampledBlocks blocks;
+	private int next;
+
+	// continuation blocks are attached to it, emptied after each call
+	private final DictionaryEntry previous = new DictionaryEntry();
+
+	@Setup
+	public void setup() throws Exception {
+		parser = parserType.equals("dom") ? new XmlParserDOMImpl() : new XmlParserStAXImpl();
+		blocks = SampledBlocks.load();
+	}
+
+	private String next(String[] sample) {
+		return sample[next++ & (SampledBlocks.SIZE - 1)];
+	}
+
+	@Benchmark
+	public DictionaryEntry parseDefinition() {
+		return parser.parseDefinition(next(blocks.entries));
+	}
+
+	@Benchmark
+	public int parseQuote() {
+		parser.parseQuote(next(blocks.quotes), previous);
+		int added = previous.getQuotes().size();
+		previous.getQuotes().clear();
+		return added;
+	}
+
+	@Benchmark
+	public int parseMoreDefinition() {
+		parser.parseMoreDefinition(next(blocks.moreDefinitions), previous);
+		int added = previous.getDefinitions().size();
+		previous.getDefinitions().clear();
+		return added;
+	}
+
+	@Benchmark
+	public int parseMoreSynonyms() {
+		parser.parseMoreSynonyms(next(blocks.synonyms), previous);
+		int added = previous.getSynonym().getSynonymList().size();
+		previous.getSynonym().getSynonymList().clear();
+		return added;
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cc.suvankar.dictionaryapi.parser.BlockPreprocessor;
+import cc.suvankar.dictionaryapi.parser.BlockTokenizer;
+import cc.suvankar.dictionaryapi.parser.XmlParserStAXImpl;
+import cc.suvankar.dictionaryapi.services.IngestionMetrics;
+import cc.suvankar.dictionaryapi.services.XmlProcessor;
+import cc.suvankar.dictionaryapi.utils.BlockReader;
+import cc.suvankar.dictionaryapi.utils.FileReaderUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The stages of {@link XmlProcessor} before the database, over a whole CIDE file: reading and
+ * preprocessing the blocks the way the processor does, and the complete parse into entries on one
+ * thread. Scores are files per second, the {@code blocks} and {@code entries} counters the same per
+ * block and per entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class XmlProcessorBenchmark {
+
+	@Param({ "CIDE.A.xml" })
+	private String fileName;
+
+	private BlockTokenizer tokenizer;
+	private BlockPreprocessor preprocessor;
+	private XmlProcessor processor;
+
+	@Setup
+	public void setup() {
+		tokenizer = new BlockTokenizer();
+		preprocessor = new BlockPreprocessor();
+		// without a scheduler the blocks are parsed on the benchmark thread
+		processor = new XmlProcessor(new XmlParserStAXImpl(), tokenizer, preprocessor, null,
+				new IngestionMetrics(new SimpleMeterRegistry()), null, null);
+	}
+
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class BlockCounter {
+		public long blocks;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			blocks = 0;
+		}
+	}
+
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class EntryCounter {
+		public long entries;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			entries = 0;
+		}
+	}
+
+	@Benchmark
+	public long scanAndPreprocess(BlockCounter counter) throws Exception {
+		long checksum = 0;
+		try (BlockReader blocks = FileReaderUtil.openBlocks(fileName, tokenizer)) {
+			String block;
+			while ((block = blocks.next()) != null) {
+				String pTagContent = preprocessor.preprocess(block, 0, block.length());
+				if (pTagContent != null) {
+					checksum += pTagContent.length();
+				}
+				counter.blocks++;
+			}
+		}
+		return checksum;
+	}
+
+	@Benchmark
+	public long parseFile(EntryCounter counter) {
+		long[] checksum = new long[1];
+		processor.parseXml(fileName, entry -> {
+			checksum[0] += entry.getOrdinal();
+			counter.entries++;
+		});
+		return checksum[0];
+	}
+}
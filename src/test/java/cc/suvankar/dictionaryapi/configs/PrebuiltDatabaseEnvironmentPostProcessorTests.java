@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.configs;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.logging.DeferredLogs;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.env.MockEnvironment;
+
+class PrebuiltDatabaseEnvironmentPostProcessorTests {
+
+	private final PrebuiltDatabaseEnvironmentPostProcessor postProcessor =
+			new PrebuiltDatabaseEnvironmentPostProcessor(new DeferredLogs());
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testPrebuiltDatabaseIsExtractedAndOpenedReadOnly() throws Exception {
+		byte[] content = { 'S', 'Q', 'L', 'i', 't', 'e' };
+		Path database = Files.write(tempDir.resolve("dictionary.sqlite"), content);
+		Path directory = tempDir.resolve("extracted");
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty("dictionary.prebuilt.location", database.toUri().toString())
+				.withProperty("dictionary.prebuilt.directory", directory.toString());
+
+		postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+		Path extracted = extracted(directory, database);
+		assertArrayEquals(content, Files.readAllBytes(extracted));
+		assertEquals("jdbc:sqlite:" + extracted + "?open_mode=1", environment.getProperty("spring.datasource.url"));
+		assertEquals("never", environment.getProperty("spring.sql.init.mode"));
+		assertEquals("true", environment.getProperty("dictionary.read-only"));
+	}
+
+	@Test
+	void testRebuiltDatabaseOfTheSameSizeIsExtractedAgain() throws Exception {
+		Path database = Files.write(tempDir.resolve("dictionary.sqlite"), new byte[] { 1, 2, 3 });
+		Path directory = tempDir.resolve("extracted");
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty("dictionary.prebuilt.location", database.toUri().toString())
+				.withProperty("dictionary.prebuilt.directory", directory.toString());
+		postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+		// a newer jar, sharing the directory
+		byte[] rebuilt = { 4, 5, 6 };
+		Files.write(database, rebuilt);
+		MockEnvironment newer = new MockEnvironment()
+				.withProperty("dictionary.prebuilt.location", database.toUri().toString())
+				.withProperty("dictionary.prebuilt.directory", directory.toString());
+		postProcessor.postProcessEnvironment(newer, new SpringApplication());
+
+		Path extracted = extracted(directory, database);
+		assertArrayEquals(rebuilt, Files.readAllBytes(extracted));
+		assertEquals("jdbc:sqlite:" + extracted + "?open_mode=1", newer.getProperty("spring.datasource.url"));
+	}
+
+	@Test
+	void testConfiguredDatabaseIsKeptWithoutPrebuiltDatabase() {
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty("dictionary.prebuilt.location", tempDir.resolve("missing.sqlite").toUri().toString())
+				.withProperty("spring.datasource.url", "jdbc:h2:file:./cidedb");
+
+		postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+		assertEquals("jdbc:h2:file:./cidedb", environment.getProperty("spring.datasource.url"));
+		assertNull(environment.getProperty("dictionary.read-only"));
+		assertFalse(environment.getPropertySources()
+				.contains(PrebuiltDatabaseEnvironmentPostProcessor.PROPERTY_SOURCE_NAME));
+	}
+
+	private static Path extracted(Path directory, Path database) throws Exception {
+		String hash = PrebuiltDatabaseEnvironmentPostProcessor.contentHash(new FileSystemResource(database));
+		return directory.resolve("dictionary-" + hash + ".sqlite");
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.configs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+class SqliteSchemaMigrationTests {
+
+	// the schema-sqlite.sql of the first release
+	private static final String OLD_SCHEMA = """
+			CREATE TABLE dictionary_entry (id INTEGER PRIMARY KEY AUTOINCREMENT, entry_word TEXT, head_word TEXT,
+			    source TEXT);
+			CREATE TABLE synonyms (dictionary_entry_id INTEGER, synonym TEXT,
+			    FOREIGN KEY (dictionary_entry_id) REFERENCES dictionary_entry(id));
+			CREATE TABLE dictionary_entry_parts_of_speech (dictionary_entry_id INTEGER, parts_of_speech TEXT,
+			    FOREIGN KEY (dictionary_entry_id) REFERENCES dictionary_entry(id));
+			CREATE TABLE definition (id INTEGER PRIMARY KEY AUTOINCREMENT, dictionary_entry_id INTEGER, mark TEXT,
+			    source TEXT, definition TEXT, FOREIGN KEY (dictionary_entry_id) REFERENCES dictionary_entry(id));
+			CREATE TABLE quote (id INTEGER PRIMARY KEY AUTOINCREMENT, dictionary_entry_id INTEGER, author TEXT,
+			    source TEXT, text TEXT, FOREIGN KEY (dictionary_entry_id) REFERENCES dictionary_entry(id));
+			CREATE TABLE verb_morphology_entry (id INTEGER PRIMARY KEY AUTOINCREMENT, dictionary_entry_id INTEGER,
+			    conjugated_form TEXT, FOREIGN KEY (dictionary_entry_id) REFERENCES dictionary_entry(id));
+			CREATE TABLE verb_morphology_entry_parts_of_speech (verb_morphology_entry_id INTEGER,
+			    parts_of_speech TEXT, FOREIGN KEY (verb_morphology_entry_id) REFERENCES verb_morphology_entry(id));
+			CREATE TABLE dictionary_users (id INTEGER PRIMARY KEY AUTOINCREMENT, username TEXT NOT NULL,
+			    password TEXT NOT NULL, role TEXT DEFAULT 'USER');
+			INSERT INTO dictionary_entry (id, entry_word, head_word) VALUES (120, 'Xylite', 'Xy"lite');
+			""";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testOldDatabaseIsMigrated() {
+		JdbcTemplate migrated = database("old.sqlite", new ByteArrayResource(OLD_SCHEMA.getBytes()));
+		JdbcTemplate current = database("current.sqlite", new ClassPathResource(SqliteSchemaMigration.SCHEMA));
+
+		new SqliteSchemaMigration(migrated.getDataSource()).migrate();
+
+		assertEquals(schema(current), schema(migrated));
+		assertEquals("Xylite", migrated.queryForObject("SELECT entry_word FROM dictionary_entry", String.class));
+		// the ids handed out from the sequence come after the ones used
+		long nextValue = migrated.queryForObject("SELECT next_val FROM dictionary_entry_seq", Long.class);
+		assertTrue(nextValue - 50 > 120, nextValue + " <= 120");
+		assertEquals(1, migrated.queryForObject("SELECT COUNT(*) FROM definition_seq", Integer.class));
+
+		// nothing left to do the second time
+		new SqliteSchemaMigration(migrated.getDataSource()).migrate();
+		assertEquals(schema(current), schema(migrated));
+		assertEquals(nextValue, migrated.queryForObject("SELECT next_val FROM dictionary_entry_seq", Long.class));
+	}
+
+	@Test
+	void testEmptyDatabaseIsLeftToTheSchemaScript() {
+		JdbcTemplate empty = new JdbcTemplate(
+				new DriverManagerDataSource("jdbc:sqlite:" + tempDir.resolve("empty.sqlite")));
+
+		new SqliteSchemaMigration(empty.getDataSource()).migrate();
+
+		assertEquals(0, empty.queryForObject("SELECT COUNT(*) FROM sqlite_master", Integer.class));
+	}
+
+	private JdbcTemplate database(String fileName, Resource script) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:sqlite:" + tempDir.resolve(fileName));
+		new ResourceDatabasePopulator(script).execute(dataSource);
+		return new JdbcTemplate(dataSource);
+	}
+
+	/**
+	 * @return Returns the columns of each table and the indexes, by name
+	 */
+	private static Map<String, List<String>> schema(JdbcTemplate jdbcTemplate) {
+		Map<String, List<String>> schema = new TreeMap<>();
+		jdbcTemplate.queryForList("SELECT type, name FROM sqlite_master WHERE name NOT LIKE 'sqlite_%'")
+				.forEach(row -> {
+					String name = (String) row.get("name");
+					schema.put(name, "table".equals(row.get("type"))
+							? jdbcTemplate.query("PRAGMA table_info(" + name + ")",
+									(resultSet, i) -> resultSet.getString("name")).stream().sorted().toList()
+							: List.of());
+				});
+		return schema;
+	}
+}
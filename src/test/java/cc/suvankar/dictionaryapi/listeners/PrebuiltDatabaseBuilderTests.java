@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.listeners;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import cc.suvankar.dictionaryapi.FreeDictionaryApiApplication;
+import cc.suvankar.dictionaryapi.data.QuarantinedBlock;
+import cc.suvankar.dictionaryapi.repositories.IngestionManifestRepository;
+import cc.suvankar.dictionaryapi.repositories.QuarantinedBlockRepository;
+import cc.suvankar.dictionaryapi.services.IngestionService;
+import cc.suvankar.dictionaryapi.services.LookupFilterService;
+
+/**
+ * Builds a prebuilt database the way the build-db profile does: a bulk import into SQLite.
+ */
+@SpringBootTest(classes = FreeDictionaryApiApplication.class, properties = {
+		"spring.sql.init.mode=always",
+		"spring.sql.init.schema-locations=classpath:schema-sqlite.sql",
+		"dictionary.ingestion.mode=bulk",
+		// nothing imported at startup
+		"dictionary.read-only=true" })
+@ActiveProfiles({ "test", "sqlite" })
+class PrebuiltDatabaseBuilderTests {
+
+	// has 2 blocks the parser fails on
+	private static final String FILE = "CIDE.R.xml";
+
+	private static Path database;
+
+	@Autowired
+	private IngestionService ingestionService;
+
+	@Autowired
+	private IngestionManifestRepository manifestRepository;
+
+	@Autowired
+	private QuarantinedBlockRepository quarantineRepository;
+
+	@Autowired
+	private LookupFilterService lookupFilter;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ApplicationContext context;
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) throws IOException {
+		database = Files.createTempFile("prebuilt", ".sqlite");
+		database.toFile().deleteOnExit();
+		registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+	}
+
+	@Test
+	void testFailedBlocksAreQuarantined() {
+		PrebuiltDatabaseBuilder builder = new PrebuiltDatabaseBuilder(ingestionService, manifestRepository,
+				lookupFilter, jdbcTemplate, context);
+		ReflectionTestUtils.setField(builder, "output", database.toString());
+
+		assertEquals(0, builder.build(List.of(FILE)));
+
+		List<QuarantinedBlock> blocks = quarantineRepository.findAllByOrderByFileNameAscBlockOffsetAsc();
+		assertEquals(2, blocks.size());
+		blocks.forEach(block -> assertEquals(FILE, block.getFileName()));
+	}
+}
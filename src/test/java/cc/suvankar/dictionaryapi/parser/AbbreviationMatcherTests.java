@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import cc.suvankar.dictionaryapi.constants.Abbreviations;
+
+class AbbreviationMatcherTests {
+
+	private final AbbreviationMatcher matcher = new AbbreviationMatcher(Map.of(
+			"a.", "adjective",
+			"n.", "noun",
+			"v.", "verb",
+			"v. t.", "verb transitive",
+			"Beau. & Fl. |", "Beaumont & Fletcher",
+			"Obs.", "Obsolete"));
+
+	@Test
+	void testWholeWordsOnly() {
+		assertEquals("adjective & noun", matcher.expand("a. & n."));
+		// "a." inside a word, "n." followed by a letter
+		assertEquals("Ala. n.b", matcher.expand("Ala. n.b"));
+		assertEquals("(noun)", matcher.expand("(n.)"));
+	}
+
+	@Test
+	void testLongestMatchWins() {
+		assertEquals(List.of("verb transitive", "noun"), matcher.expansions("v. t. & n."));
+		assertEquals(List.of("verb"), matcher.expansions("v. x."));
+	}
+
+	@Test
+	void testTrimmedKeys() {
+		assertEquals("Beaumont & Fletcher, Obsolete", matcher.expand("Beau. & Fl., Obs."));
+	}
+
+	@Test
+	void testFirstOfTheSameTrimmedKeysWins() {
+		Map<String, String> abbreviations = new LinkedHashMap<>();
+		abbreviations.put("L.", "Latin, Low");
+		abbreviations.put("L. |", "Low");
+		assertEquals("Latin, Low", new AbbreviationMatcher(abbreviations).expand("L."));
+	}
+
+	@Test
+	void testAbbreviationsWithSeveralMeanings() {
+		Map.of("Eng.", "England, English, Engraving",
+				"Gal.", "Galen, Galatians",
+				"L.", "Latin, Low",
+				"Prov.", "Provincial, Proverbs",
+				"Rev.", "Revelation, Review",
+				"Sam.", "Samaritan, Samuel")
+				.forEach((abbreviation, expansion) -> assertEquals(expansion,
+						AbbreviationMatcher.CIDE.expand(abbreviation), abbreviation));
+	}
+
+	@Test
+	void testNoMatch() {
+		String text = "To give up wholly.";
+		assertSame(text, matcher.expand(text));
+		assertEquals(List.of(), matcher.expansions(text));
+		assertEquals("", matcher.expand(""));
+	}
+
+	@Test
+	void testSameAsLookupForSingleAbbreviations() {
+		for (String pos : List.of("n.", "a.", "v. t.", "adv.", "v. i.", "prep.", "interj.")) {
+			assertEquals(List.of(Abbreviations.ABBREVIATION_MAP.get(pos)),
+					AbbreviationMatcher.CIDE.expansions(pos));
+		}
+	}
+}
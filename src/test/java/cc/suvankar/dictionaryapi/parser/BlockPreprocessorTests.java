@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class BlockPreprocessorTests {
+
+	private final BlockPreprocessor preprocessor = new BlockPreprocessor();
+
+	@Test
+	void testEntities() {
+		assertEquals("<p>\"a\" 'b' {acr/}x&amp;lt &gt;</p>",
+				preprocess("<p><ldquo/a<rdquo/ <lsquo/b<rsquo/ <acr/x<lt/ <gt/;</p>"));
+	}
+
+	@Test
+	void testRemovedMarkup() {
+		assertEquals("<p>ab>c d</p>",
+				preprocess("<p><!-- one -->a<?/b<br/>c<cs>{BR /}</cs> <note>d</note></p>"));
+	}
+
+	@Test
+	void testAmpersand() {
+		assertEquals("<p>v. t. &amp; i. &amp; &amp;; &eacute;</p>", preprocess("<p>v. t. & i. & &; &eacute;</p>"));
+	}
+
+	@Test
+	void testUnterminatedComment() {
+		assertNull(preprocess("<p><ent>a</ent><!-- open</p>"));
+	}
+
+	@Test
+	void testSameOutputAsLegacyChainForEveryCideFile() throws Exception {
+		BlockTokenizer tokenizer = new BlockTokenizer();
+		Path directory = Paths.get(getClass().getClassLoader().getResource("GCIDE").toURI());
+
+		List<Path> files;
+		try (Stream<Path> stream = Files.list(directory)) {
+			files = stream.filter(path -> path.getFileName().toString().matches("CIDE\\..*\\.xml")).sorted().toList();
+		}
+		assertFalse(files.isEmpty());
+
+		for (Path file : files) {
+			String content = Files.readString(file);
+			BlockTokenizer.Cursor cursor = tokenizer.cursor(content);
+			while (cursor.next()) {
+				String block = content.substring(cursor.start(), cursor.end());
+				assertEquals(LegacyBlockPreprocessor.preprocess(block),
+						preprocessor.preprocess(content, cursor.start(), cursor.end()),
+						file.getFileName() + " at offset " + cursor.start());
+			}
+		}
+	}
+
+	private String preprocess(String block) {
+		return preprocessor.preprocess(block, 0, block.length());
+	}
+
+}
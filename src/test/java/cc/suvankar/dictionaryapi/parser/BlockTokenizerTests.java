@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class BlockTokenizerTests {
+
+	private final BlockTokenizer tokenizer = new BlockTokenizer();
+
+	@Test
+	void testFlatBlocks() {
+		String text = "<!-- header -->\n<p><ent>a</ent></p>\n\n<p><ent>b</ent></p>\n";
+
+		assertEquals(List.of("<p><ent>a</ent></p>", "<p><ent>b</ent></p>"), blocks(text));
+	}
+
+	@Test
+	void testNestedBlocks() {
+		String text = "<p>outer <p>inner <p>deep</p></p> tail</p><p>next</p>";
+
+		assertEquals(List.of("<p>outer <p>inner <p>deep</p></p> tail</p>", "<p>next</p>"), blocks(text));
+	}
+
+	@Test
+	void testUnterminatedBlock() {
+		assertEquals(List.of("<p>one</p>"), blocks("<p>one</p><p>two"));
+	}
+
+	@Test
+	void testUnterminatedNestedBlock() {
+		assertEquals(List.of("<p>one</p>"), blocks("<p>one</p><p>two<p>three</p>"));
+	}
+
+	@Test
+	void testNoBlock() {
+		assertEquals(List.of(), blocks("no paragraph here </p>"));
+	}
+
+	@Test
+	void testBlockOffsets() {
+		String text = "xx<p>a<p>b</p></p>yy";
+		BlockTokenizer.Cursor cursor = tokenizer.cursor(text);
+
+		cursor.next();
+		assertEquals(2, cursor.start());
+		assertEquals(text.length() - 2, cursor.end());
+	}
+
+	@Test
+	void testAnyCharSequence() {
+		CharSequence text = CharBuffer.wrap("<p>a</p><p>b<p>c</p></p>");
+
+		assertEquals(List.of("<p>a</p>", "<p>b<p>c</p></p>"), blocks(text));
+	}
+
+	private List<String> blocks(CharSequence text) {
+		List<String> blocks = new ArrayList<>();
+		BlockTokenizer.Cursor cursor = tokenizer.cursor(text);
+		while (cursor.next()) {
+			blocks.add(cursor.block().toString());
+		}
+		return blocks;
+	}
+
+}
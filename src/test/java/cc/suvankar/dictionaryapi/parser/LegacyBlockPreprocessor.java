@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.parser;
+
+import java.util.regex.Pattern;
+
+/**
+ * The replaceAll chain XmlProcessor used before {@link BlockPreprocessor}, kept as the reference
+ * for the golden output test and the benchmarks.
+ */
+public final class LegacyBlockPreprocessor {
+
+	private LegacyBlockPreprocessor() {
+	}
+
+	/**
+	 * @return Returns the preprocessed block, or null if the block has an unterminated comment
+	 */
+	public static String preprocess(String pTagContent) {
+		pTagContent = pTagContent
+				.replaceAll("(?s)<!--.*?-->", "") // remove all the comments
+				.replaceAll("<\\?/", "")// replace all (<?/) with ''
+				.replaceAll("<ldquo/", "\"")
+				.replaceAll("<rdquo/", "\"")
+				.replaceAll("<lsquo/", "'")
+				.replaceAll("<rsquo/", "'")
+				.replaceAll("<lt/", "&lt")
+				.replaceAll("<gt/", "&gt")
+				.replaceAll("<(\\w+)/", "{$1/}") // replace all <acr/ like patterns with /{acr/}
+				.replaceAll("(?i)\\{br\\s*/?}", "")
+				.replaceAll("&(?!\\w+;)", "&amp;") // ignore & characters
+				.replaceAll("<cs>", "").replaceAll("</cs>", "")
+				.replaceAll("<note>", "").replaceAll("</note>", "");
+
+		Pattern incompleteCommentTagPattern = Pattern.compile("<p>.*?<!--(?!.*?-->).*?</p>",
+				Pattern.DOTALL);
+		if (incompleteCommentTagPattern.matcher(pTagContent).find()) {
+			return null;
+		}
+		return pTagContent;
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.utils.FileReaderUtil;
+
+class ParsedBlockTests {
+
+	static List<XmlParser> parsers() {
+		return List.of(new XmlParserDOMImpl(), new XmlParserStAXImpl());
+	}
+
+	@ParameterizedTest
+	@MethodSource("parsers")
+	void testClassification(XmlParser parser) {
+		ParsedBlock entry = parser.parseBlock("<p><ent>Abandon</ent><hw>A*ban\"don</hw><def>To give up.</def></p>");
+		assertTrue(entry.isEntry());
+		assertEquals("Abandon", entry.getEntry().getEntryWord());
+
+		ParsedBlock quote = parser.parseBlock("<p><q>Some text</q><qau>Locke.</qau></p>");
+		assertFalse(quote.isEntry());
+		assertEquals("Locke.", quote.getQuote().getAuthor());
+		assertNull(quote.getDefinition());
+
+		ParsedBlock definition = parser.parseBlock("<p><sn>2.</sn><def>Another sense.</def></p>");
+		assertEquals("Another sense.", definition.getDefinition().getDefinition());
+
+		ParsedBlock synonyms = parser.parseBlock("<p><syn>Syn. -- To forsake; leave.</syn></p>");
+		assertEquals(List.of("To forsake", "leave"), synonyms.getSynonyms());
+
+		assertTrue(parser.parseBlock("<p><centered>NUMBERS.</centered></p>").isEmpty());
+	}
+
+	@ParameterizedTest
+	@MethodSource("parsers")
+	void testAbbreviations(XmlParser parser) {
+		String block = "<p><sn>2.</sn><mark>[Obs.]</mark><def>To forsake.</def> --<source>Shak.</source></p>";
+		ParsedBlock raw = parser.parseBlock(block);
+		assertEquals("[Obs.]", raw.getDefinition().getMark());
+		assertEquals("Shak.", raw.getDefinition().getSource());
+
+		ReflectionTestUtils.setField(parser, "expandAbbreviations", true);
+		ParsedBlock expanded = parser.parseBlock(block);
+		assertEquals("[Obsolete]", expanded.getDefinition().getMark());
+		assertEquals("Shakespeare", expanded.getDefinition().getSource());
+		assertEquals("To forsake.", expanded.getDefinition().getDefinition());
+
+		// parts of speech are always expanded, also when they combine several abbreviations
+		DictionaryEntry entry = parser.parseDefinition(
+				"<p><ent>Abatis</ent><pos>n. sing. &amp; pl.</pos><vmorph>[<pos>imp. &amp; p. p.</pos> <conjf>Abated</conjf>]</vmorph></p>");
+		assertTrue(entry.getPartsOfSpeech().containsAll(List.of("noun", "singular", "plural")));
+		assertEquals(List.of("imperfect", "participle past"),
+				entry.getVerbMorphologyEntries().get(0).getPartsOfSpeech());
+	}
+
+	@ParameterizedTest
+	@MethodSource("parsers")
+	void testSameEntriesAsSeparateParses(XmlParser parser) throws Exception {
+		String content = FileReaderUtil.readFile("CIDE.A.xml");
+		BlockPreprocessor preprocessor = new BlockPreprocessor();
+
+		List<DictionaryEntry> separate = new ArrayList<>();
+		List<DictionaryEntry> once = new ArrayList<>();
+		DictionaryEntry prevSeparate = null;
+		DictionaryEntry prevOnce = null;
+
+		BlockTokenizer.Cursor cursor = new BlockTokenizer().cursor(content);
+		while (cursor.next()) {
+			String block = preprocessor.preprocess(content, cursor.start(), cursor.end());
+			if (block == null) {
+				continue;
+			}
+
+			DictionaryEntry entry = parser.parseDefinition(block);
+			if (entry != null) {
+				separate.add(entry);
+				prevSeparate = entry;
+			} else if (prevSeparate != null) {
+				parser.parseQuote(block, prevSeparate);
+				parser.parseMoreDefinition(block, prevSeparate);
+				parser.parseMoreSynonyms(block, prevSeparate);
+			}
+
+			ParsedBlock parsedBlock = parser.parseBlock(block);
+			if (parsedBlock.isEntry()) {
+				once.add(parsedBlock.getEntry());
+				prevOnce = parsedBlock.getEntry();
+			} else if (prevOnce != null) {
+				parsedBlock.attachTo(prevOnce);
+			}
+		}
+
+		assertNotNull(prevOnce);
+		assertEquals(separate, once);
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.services.IngestionMetrics;
+import cc.suvankar.dictionaryapi.services.XmlProcessor;
+
+class XmlParserStAXImplTests {
+
+	@Test
+	void testSameEntriesAsDomParser() {
+		IngestionMetrics metrics = new IngestionMetrics(new SimpleMeterRegistry());
+		List<DictionaryEntry> domEntries = new XmlProcessor(new XmlParserDOMImpl(), new BlockTokenizer(), new BlockPreprocessor(), null, metrics, null, null).parseXml("CIDE.A.xml");
+		List<DictionaryEntry> staxEntries = new XmlProcessor(new XmlParserStAXImpl(), new BlockTokenizer(), new BlockPreprocessor(), null, metrics, null, null).parseXml("CIDE.A.xml");
+
+		assertFalse(domEntries.isEmpty());
+		assertEquals(domEntries.size(), staxEntries.size());
+		for (int i = 0; i < domEntries.size(); i++) {
+			assertEquals(domEntries.get(i), staxEntries.get(i), "Entry " + i + " differs");
+		}
+	}
+
+}
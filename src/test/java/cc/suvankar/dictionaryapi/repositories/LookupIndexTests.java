@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * The lookups of {@link DictionaryEntryRepository} and the fetch of the child rows of an entry use an
+ * index on both databases, on the schema of schema-h2.sql and schema-sqlite.sql.
+ */
+class LookupIndexTests {
+
+	// the SQL of the repository queries and of the fetch of the child rows, by the index it has to use
+	private static final Map<String, String> QUERIES = Map.of(
+			"idx_dictionary_entry_entry_word_key",
+			"SELECT e.id FROM dictionary_entry e WHERE e.entry_word_key = ?",
+			"idx_verb_morphology_entry_conjugated_form_key",
+			"SELECT e.id FROM dictionary_entry e JOIN verb_morphology_entry v ON e.id = v.dictionary_entry_id "
+					+ "WHERE v.conjugated_form_key = ?",
+			"idx_definition_dictionary_entry_id",
+			"SELECT id FROM definition WHERE dictionary_entry_id = ?",
+			"idx_quote_dictionary_entry_id",
+			"SELECT id FROM quote WHERE dictionary_entry_id = ?",
+			"idx_synonyms_dictionary_entry_id",
+			"SELECT synonym FROM synonyms WHERE dictionary_entry_id = ?",
+			"idx_dictionary_entry_parts_of_speech_dictionary_entry_id",
+			"SELECT parts_of_speech FROM dictionary_entry_parts_of_speech WHERE dictionary_entry_id = ?",
+			"idx_verb_morphology_entry_dictionary_entry_id",
+			"SELECT id FROM verb_morphology_entry WHERE dictionary_entry_id = ?",
+			"idx_verb_morphology_entry_parts_of_speech_verb_morphology_entry_id",
+			"SELECT parts_of_speech FROM verb_morphology_entry_parts_of_speech WHERE verb_morphology_entry_id = ?");
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testH2LookupsUseIndexes() {
+		SingleConnectionDataSource dataSource = new SingleConnectionDataSource("jdbc:h2:mem:lookup-index", true);
+		try {
+			JdbcTemplate jdbcTemplate = schema(dataSource, "schema-h2.sql");
+			assertIndexesUsed(sql -> String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class)));
+		} finally {
+			dataSource.destroy();
+		}
+	}
+
+	@Test
+	void testSqliteLookupsUseIndexes() {
+		SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+				"jdbc:sqlite:" + tempDir.resolve("lookup-index.sqlite"), true);
+		try {
+			JdbcTemplate jdbcTemplate = schema(dataSource, "schema-sqlite.sql");
+			// the detail column, e.g. SEARCH e USING INDEX idx_dictionary_entry_entry_word_key (entry_word_key=?)
+			assertIndexesUsed(sql -> String.join("\n",
+					jdbcTemplate.query("EXPLAIN QUERY PLAN " + sql, (resultSet, row) -> resultSet.getString("detail"))));
+		} finally {
+			dataSource.destroy();
+		}
+	}
+
+	private static JdbcTemplate schema(DataSource dataSource, String script) {
+		new ResourceDatabasePopulator(new ClassPathResource(script)).execute(dataSource);
+		return new JdbcTemplate(dataSource);
+	}
+
+	private static void assertIndexesUsed(Function<String, String> plan) {
+		QUERIES.forEach((index, sql) -> {
+			String queryPlan = plan.apply(sql);
+			assertTrue(queryPlan.toLowerCase().contains(index), () -> sql + " does not use " + index + ": " + queryPlan);
+		});
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import cc.suvankar.dictionaryapi.FreeDictionaryApiApplication;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.utils.BinaryDictionary;
+
+@SpringBootTest(classes = FreeDictionaryApiApplication.class)
+@ActiveProfiles("test")
+class BinaryEntryLookupTests {
+
+	private static final String FILE = "CIDE.X.xml";
+
+	@Autowired
+	private IngestionService ingestionService;
+
+	@Autowired
+	private JpaEntryLookup jpaEntryLookup;
+
+	@Autowired
+	private XmlProcessor xmlProcessor;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testBinaryDictionaryFindsWhatTheDatabaseFinds() throws Exception {
+		ingestionService.importFiles(List.of(FILE), true);
+
+		List<DictionaryEntry> entries = xmlProcessor.parseXml(FILE);
+		BinaryDictionary.Builder builder = BinaryDictionary.builder();
+		entries.forEach(builder::add);
+		Path file = tempDir.resolve("dictionary.bin");
+		builder.write(file, BinaryDictionaryExporter.sourceHash(List.of(FILE)));
+
+		Set<String> words = new TreeSet<>();
+		for (DictionaryEntry entry : entries) {
+			words.add(entry.getEntryWord().toLowerCase(Locale.ROOT));
+			entry.getVerbMorphologyEntries()
+					.forEach(verb -> words.add(verb.getConjugatedForm().toLowerCase(Locale.ROOT)));
+		}
+
+		try (BinaryDictionary dictionary = BinaryDictionary.open(file)) {
+			assertEquals(entries.size(), dictionary.getEntryCount());
+			assertEquals(words.size(), dictionary.getKeyCount());
+			for (String word : words) {
+				assertEquals(json(jpaEntryLookup.findEntriesByWord(word)), json(dictionary.find(word)), word);
+			}
+		}
+	}
+
+	/**
+	 * As returned by /definitions, the collections loaded by Hibernate do not compare by value. The parts of
+	 * speech are sorted, the database does not keep their order.
+	 */
+	private String json(List<DictionaryEntry> entries) throws Exception {
+		entries.forEach(entry -> entry.setPartsOfSpeech(new TreeSet<>(entry.getPartsOfSpeech())));
+		return objectMapper.writeValueAsString(entries);
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import cc.suvankar.dictionaryapi.exceptions.BulkLoadException;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.parser.BlockPreprocessor;
+import cc.suvankar.dictionaryapi.parser.BlockTokenizer;
+import cc.suvankar.dictionaryapi.parser.XmlParserStAXImpl;
+
+class BulkEntryWriterTests {
+
+	private static final String FILE = "CIDE.X.xml";
+
+	@TempDir
+	Path tempDir;
+
+	@ParameterizedTest
+	@ValueSource(strings = { "h2", "sqlite" })
+	void testBulkLoad(String database) {
+		DriverManagerDataSource dataSource = "h2".equals(database)
+				? new DriverManagerDataSource("jdbc:h2:mem:bulk;DB_CLOSE_DELAY=-1", "sa", "")
+				: new DriverManagerDataSource("jdbc:sqlite:" + tempDir.resolve("bulk.sqlite") + "?foreign_keys=true");
+		new ResourceDatabasePopulator(new ClassPathResource("schema-" + database + ".sql")).execute(dataSource);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+		List<DictionaryEntry> entries = new XmlProcessor(new XmlParserStAXImpl(), new BlockTokenizer(),
+				new BlockPreprocessor(), null, new IngestionMetrics(new SimpleMeterRegistry()), null, null).parseXml(FILE);
+		BulkEntryWriter writer = new BulkEntryWriter(dataSource);
+
+		// two imports, the second one continues after the ids of the first
+		for (int i = 0; i < 2; i++) {
+			writer.beforeImport();
+			writer.write(FILE, entries.subList(0, entries.size() / 2));
+			writer.write(FILE, entries.subList(entries.size() / 2, entries.size()));
+			writer.afterImport();
+		}
+
+		assertEquals(2 * entries.size(), count(jdbcTemplate, "dictionary_entry"));
+		assertEquals(2 * entries.size(), jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM dictionary_entry WHERE source_file = ?", Integer.class, FILE));
+		assertEquals(2 * entries.stream().mapToInt(e -> e.getDefinitions().size()).sum(),
+				count(jdbcTemplate, "definition"));
+		assertEquals(2 * entries.stream().mapToInt(e -> e.getQuotes().size()).sum(),
+				count(jdbcTemplate, "quote"));
+		assertEquals(2 * entries.stream().mapToInt(e -> e.getSynonym().getSynonymList().size()).sum(),
+				count(jdbcTemplate, "synonyms"));
+		assertEquals(2 * entries.stream().mapToInt(e -> e.getVerbMorphologyEntries().size()).sum(),
+				count(jdbcTemplate, "verb_morphology_entry"));
+
+		List<String> etymologies = jdbcTemplate.queryForList(
+				"SELECT etymology FROM dictionary_entry ORDER BY id", String.class);
+		for (int i = 0; i < entries.size(); i++) {
+			assertEquals(entries.get(i).getEtymology(), etymologies.get(i), "Entry " + i);
+		}
+
+		// the JPA sequences must continue after the loaded rows
+		long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM dictionary_entry", Long.class);
+		long nextValue = "h2".equals(database)
+				? jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR dictionary_entry_seq", Long.class)
+				: jdbcTemplate.queryForObject("SELECT next_val FROM dictionary_entry_seq", Long.class);
+		assertTrue(nextValue - 50 >= maxId, nextValue + " <= " + maxId);
+	}
+
+	@Test
+	void testFailedBatchIsRolledBack() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:failed-bulk;DB_CLOSE_DELAY=-1",
+				"sa", "");
+		new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).execute(dataSource);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+		List<DictionaryEntry> entries = new XmlProcessor(new XmlParserStAXImpl(), new BlockTokenizer(),
+				new BlockPreprocessor(), null, new IngestionMetrics(new SimpleMeterRegistry()), null, null)
+				.parseXml("CIDE.Y.xml");
+		// more entries than one INSERT takes, the last one too long for its column
+		List<DictionaryEntry> failing = entries.subList(0, MultiRowBulkLoader.ROWS_PER_INSERT + 50);
+		failing.get(failing.size() - 1).setHeadWord("x".repeat(300));
+		List<DictionaryEntry> rest = entries.subList(failing.size(), entries.size());
+		BulkEntryWriter writer = new BulkEntryWriter(dataSource);
+
+		writer.beforeImport();
+		assertThrows(BulkLoadException.class, () -> writer.write("CIDE.Y.xml", failing));
+		assertEquals(rest.size(), writer.write("CIDE.Y.xml", rest));
+		writer.afterImport();
+
+		// nothing of the failed batch, not even the rows inserted before the failing one
+		assertEquals(rest.size(), count(jdbcTemplate, "dictionary_entry"));
+		assertEquals(rest.stream().mapToInt(e -> e.getDefinitions().size()).sum(), count(jdbcTemplate, "definition"));
+	}
+
+	private static int count(JdbcTemplate jdbcTemplate, String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+}
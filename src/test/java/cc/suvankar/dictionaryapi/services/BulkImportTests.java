@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import cc.suvankar.dictionaryapi.FreeDictionaryApiApplication;
+import cc.suvankar.dictionaryapi.data.IngestionManifest;
+import cc.suvankar.dictionaryapi.repositories.IngestionManifestRepository;
+
+/**
+ * Bulk imports into SQLite, where the bulk load holds the only write lock of the database until it commits.
+ */
+@SpringBootTest(classes = FreeDictionaryApiApplication.class, properties = {
+		"spring.sql.init.mode=always",
+		"spring.sql.init.schema-locations=classpath:schema-sqlite.sql",
+		"dictionary.ingestion.mode=bulk",
+		// the parser is never more than a few entries ahead of the bulk load
+		"dictionary.ingestion.queue-capacity=1",
+		// nothing imported at startup
+		"dictionary.read-only=true" })
+@ActiveProfiles({ "test", "sqlite" })
+class BulkImportTests {
+
+	private static final String FILE = "CIDE.X.xml";
+
+	@Autowired
+	private IngestionService ingestionService;
+
+	@Autowired
+	private IngestionManifestRepository manifestRepository;
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) throws IOException {
+		Path file = Files.createTempFile("bulk-import", ".sqlite");
+		file.toFile().deleteOnExit();
+		registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + file);
+	}
+
+	@Test
+	void testFailedFileIsRecorded() throws Exception {
+		// cancelled once the bulk load started writing
+		AtomicBoolean cancelled = new AtomicBoolean();
+		ImportListener listener = new ImportListener() {
+			@Override
+			public void entriesPersisted(String fileName, long count) {
+				cancelled.set(true);
+			}
+
+			@Override
+			public boolean isCancelled() {
+				return cancelled.get();
+			}
+		};
+
+		ingestionService.importFiles(List.of(FILE), true, listener);
+
+		assertEquals(IngestionManifest.Status.FAILED,
+				manifestRepository.findByFileName(FILE).orElseThrow().getStatus());
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EntryLookupCacheTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+	private final EntryLookupCache cache = new EntryLookupCache(registry, 100);
+
+	// counts the lookups that reach it
+	private final AtomicInteger lookups = new AtomicInteger();
+
+	@Test
+	void testLookupIsCachedUntilInvalidated() {
+		List<DictionaryEntry> entries = cache.get("run", this::lookup);
+		assertSame(entries, cache.get("run", this::lookup));
+		assertEquals(1, lookups.get());
+
+		cache.invalidateAll();
+		assertEquals(entries, cache.get("run", this::lookup));
+		assertEquals(2, lookups.get());
+
+		assertEquals(1, registry.get("cache.gets").tag("cache", EntryLookupCache.NAME).tag("result", "hit")
+				.functionCounter().count());
+		assertEquals(2, registry.get("cache.gets").tag("cache", EntryLookupCache.NAME).tag("result", "miss")
+				.functionCounter().count());
+	}
+
+	@Test
+	void testCachedEntriesAreUnmodifiable() {
+		List<DictionaryEntry> entries = cache.get("run", this::lookup);
+		DictionaryEntry entry = entries.get(0);
+
+		assertThrows(UnsupportedOperationException.class, () -> entries.clear());
+		assertThrows(UnsupportedOperationException.class, () -> entry.getDefinitions().clear());
+		assertThrows(UnsupportedOperationException.class, () -> entry.getPartsOfSpeech().add("noun"));
+		assertThrows(UnsupportedOperationException.class, () -> entry.getSynonym().getSynonymList().clear());
+		assertThrows(UnsupportedOperationException.class, () -> entry.getVerbMorphologyEntries().clear());
+		assertThrows(UnsupportedOperationException.class, () -> entry.getQuotes().clear());
+	}
+
+	private List<DictionaryEntry> lookup(String word) {
+		lookups.incrementAndGet();
+		DictionaryEntry entry = new DictionaryEntry();
+		entry.setEntryWord(word);
+		entry.getDefinitions().add(new Definition("To move swiftly.", null, null));
+		entry.getPartsOfSpeech().add("verb");
+		entry.getSynonym().getSynonymList().add("hasten");
+		return List.of(entry);
+	}
+}
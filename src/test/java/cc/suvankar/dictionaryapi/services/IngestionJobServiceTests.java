@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cc.suvankar.dictionaryapi.exceptions.IngestionJobConflictException;
+
+class IngestionJobServiceTests {
+
+	private static final String FILE = "CIDE.X.xml";
+
+	private final IngestionService ingestionService = mock(IngestionService.class);
+	private final EntryLookupCache lookupCache = mock(EntryLookupCache.class);
+	private final LookupFilterService lookupFilter = mock(LookupFilterService.class);
+	private final EntryLookup entryLookup = mock(EntryLookup.class);
+	private final IngestionJobService jobService = new IngestionJobService(ingestionService, entryLookup,
+			lookupCache, lookupFilter);
+
+	// released by the test to let the running import go on
+	private final CountDownLatch release = new CountDownLatch(1);
+	// counted down once the running job is in its import
+	private final CountDownLatch started = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() throws Exception {
+		jobService.init();
+		// imports the file with 10 entries, or stops at the first entry once cancelled
+		doAnswer(invocation -> {
+			ImportListener listener = invocation.getArgument(2);
+			listener.importStarted(List.of(FILE));
+			started.countDown();
+			release.await(10, TimeUnit.SECONDS);
+			listener.entriesPersisted(FILE, 10);
+			listener.fileFinished(FILE, !listener.isCancelled());
+			return List.of(FILE);
+		}).when(ingestionService).importFiles(eq(List.of(FILE)), anyBoolean(), any());
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		jobService.shutdown();
+	}
+
+	@Test
+	void testJobReportsProgress() throws Exception {
+		IngestionJob job = jobService.submit(FILE, true);
+		release.countDown();
+		await(job);
+
+		assertEquals(IngestionJob.Status.COMPLETED, job.getStatus());
+		assertEquals(1, job.getFilesTotal());
+		assertEquals(1, job.getFilesDone());
+		assertEquals(10, job.getEntriesPersisted());
+		assertEquals(0L, job.getEtaSeconds());
+		assertEquals(List.of(job), jobService.getJobs());
+		// the lookups see the imported entries once the job is finished
+		verify(lookupFilter).rebuild();
+		verify(entryLookup).entriesChanged();
+		verify(lookupCache).invalidateAll();
+	}
+
+	@Test
+	void testOneJobPerDataset() throws Exception {
+		IngestionJob job = jobService.submit(FILE, true);
+
+		IngestionJobConflictException e = assertThrows(IngestionJobConflictException.class,
+				() -> jobService.submit(IngestionJobService.ALL_FILES, true));
+		assertSame(job, e.getActiveJob());
+
+		release.countDown();
+		await(job);
+		IngestionJob next = jobService.submit(FILE, true);
+		await(next);
+		assertEquals(List.of(next, job), jobService.getJobs());
+	}
+
+	@Test
+	void testCancel() throws Exception {
+		IngestionJob running = jobService.submit(FILE, true);
+		IngestionJob queued = jobService.submit("CIDE.Y.xml", true);
+		// cancelled before it started, the job would not even begin the import
+		assertTrue(started.await(10, TimeUnit.SECONDS), "The job did not start");
+
+		jobService.cancel(queued.getId());
+		jobService.cancel(running.getId());
+		release.countDown();
+		await(queued);
+
+		assertEquals(IngestionJob.Status.CANCELLED, running.getStatus());
+		assertEquals(1, running.getFilesFailed());
+		// never started
+		assertEquals(IngestionJob.Status.CANCELLED, queued.getStatus());
+		assertNull(queued.getStartedAt());
+		assertTrue(jobService.cancel(42).isEmpty());
+	}
+
+	private static void await(IngestionJob job) throws InterruptedException {
+		for (int i = 0; i < 1000 && job.isActive(); i++) {
+			Thread.sleep(10);
+		}
+		assertFalse(job.isActive(), "Job " + job.getId() + " did not finish");
+	}
+}
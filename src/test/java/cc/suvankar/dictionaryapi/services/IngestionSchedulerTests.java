@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class IngestionSchedulerTests {
+
+	@Test
+	void testLargestFilesFirst() {
+		assertEquals(List.of("CIDE.A.xml", "CIDE.B.xml", "CIDE.X.xml"),
+				IngestionScheduler.largestFirst(List.of("CIDE.X.xml", "CIDE.B.xml", "CIDE.A.xml")));
+	}
+
+	@Test
+	void testSingleWriterOnSqlite() throws Exception {
+		IngestionScheduler scheduler = new IngestionScheduler(new DriverManagerDataSource("jdbc:sqlite::memory:"));
+		scheduler.init();
+		try {
+			assertEquals(1, ReflectionTestUtils.getField(scheduler, "maxConcurrentWrites"));
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	void testWritesLeaveConnectionsToLookups() {
+		try (HikariDataSource dataSource = new HikariDataSource()) {
+			dataSource.setJdbcUrl("jdbc:h2:mem:scheduler");
+			dataSource.setMaximumPoolSize(6);
+			IngestionScheduler scheduler = new IngestionScheduler(dataSource);
+			scheduler.init();
+			try {
+				assertEquals(4, ReflectionTestUtils.getField(scheduler, "maxConcurrentWrites"));
+				// a persist thread per write permit
+				assertEquals(4, ((ThreadPoolExecutor) scheduler.persistPool()).getMaximumPoolSize());
+			} finally {
+				scheduler.shutdown();
+			}
+		}
+	}
+
+	@Test
+	void testEveryFileIsImportedWhenOneFails() throws Exception {
+		IngestionScheduler scheduler = new IngestionScheduler(null);
+		ReflectionTestUtils.setField(scheduler, "fileParallelism", 2);
+		scheduler.init();
+		AtomicInteger imported = new AtomicInteger();
+		try {
+			scheduler.forEachFile(List.of("CIDE.X.xml", "CIDE.Y.xml", "CIDE.Z.xml"), fileName -> {
+				if (fileName.equals("CIDE.Y.xml")) {
+					throw new IllegalStateException("failed");
+				}
+				imported.incrementAndGet();
+			});
+		} finally {
+			scheduler.shutdown();
+		}
+		assertEquals(2, imported.get());
+	}
+}
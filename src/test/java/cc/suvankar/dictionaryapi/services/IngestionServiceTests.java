@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import cc.suvankar.dictionaryapi.FreeDictionaryApiApplication;
+import cc.suvankar.dictionaryapi.data.IngestionManifest;
+import cc.suvankar.dictionaryapi.data.QuarantinedBlock;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.repositories.IngestionManifestRepository;
+import cc.suvankar.dictionaryapi.repositories.QuarantinedBlockRepository;
+
+@SpringBootTest(classes = FreeDictionaryApiApplication.class)
+@ActiveProfiles("test")
+class IngestionServiceTests {
+
+	private static final String FILE = "CIDE.X.xml";
+
+	@Autowired
+	private IngestionService ingestionService;
+
+	@Autowired
+	private IngestionManifestRepository manifestRepository;
+
+	@Autowired
+	private DictionaryEntryService dictionaryEntryService;
+
+	@Autowired
+	private XmlProcessor xmlProcessor;
+
+	@Autowired
+	private QuarantinedBlockRepository quarantinedBlockRepository;
+
+	@BeforeEach
+	void cleanUp() {
+		manifestRepository.deleteAll();
+		quarantinedBlockRepository.deleteAll();
+		dictionaryEntryService.deleteBySourceFile(FILE);
+	}
+
+	@Test
+	void testCompletedFileIsSkipped() throws Exception {
+		int entries = xmlProcessor.parseXml(FILE).size();
+
+		assertEquals(List.of(FILE), ingestionService.importFiles(List.of(FILE), false));
+		IngestionManifest manifest = manifestRepository.findByFileName(FILE).orElseThrow();
+		assertEquals(IngestionManifest.Status.COMPLETED, manifest.getStatus());
+		assertEquals(entries, manifest.getEntryCount());
+
+		assertEquals(List.of(), ingestionService.importFiles(List.of(FILE), false));
+		assertEquals(entries, dictionaryEntryService.countBySourceFile(FILE));
+	}
+
+	@Test
+	void testUnfinishedFileIsImportedAgainWithoutDuplicates() throws Exception {
+		int entries = xmlProcessor.parseXml(FILE).size();
+		ingestionService.importFiles(List.of(FILE), false);
+
+		// as if the application stopped in the middle of the file
+		manifestRepository.updateStatus(FILE, IngestionManifest.Status.IN_PROGRESS, 0, null);
+
+		assertEquals(List.of(FILE), ingestionService.importFiles(List.of(FILE), false));
+		assertEquals(entries, dictionaryEntryService.countBySourceFile(FILE));
+		assertEquals(IngestionManifest.Status.COMPLETED,
+				manifestRepository.findByFileName(FILE).orElseThrow().getStatus());
+	}
+
+	@Test
+	void testChangedFileOnlyWritesTheDifferences() throws Exception {
+		List<DictionaryEntry> entries = xmlProcessor.parseXml(FILE);
+		ingestionService.importFiles(List.of(FILE), false);
+
+		// the same file, with one entry removed, one changed and one added
+		List<DictionaryEntry> changed = new ArrayList<>(xmlProcessor.parseXml(FILE));
+		changed.remove(0);
+		changed.get(0).setEtymology("corrected");
+		DictionaryEntry added = new DictionaryEntry();
+		added.setEntryWord("Xyzzy");
+		changed.add(added);
+
+		DictionaryEntryService.SyncResult result = dictionaryEntryService.syncSourceFile(FILE, changed);
+
+		assertEquals(new DictionaryEntryService.SyncResult(1, 1, 1, entries.size() - 2), result);
+		assertEquals(entries.size(), dictionaryEntryService.countBySourceFile(FILE));
+
+		// back to the file content, through the manifest
+		manifestRepository.updateStatus(FILE, IngestionManifest.Status.FAILED, 0, null);
+		ingestionService.importFiles(List.of(FILE), false);
+
+		assertEquals(new DictionaryEntryService.SyncResult(0, 0, 0, entries.size()),
+				dictionaryEntryService.syncSourceFile(FILE, xmlProcessor.parseXml(FILE)));
+	}
+
+	@Test
+	void testQuarantinedFileIsImportedAgainOnceAnyOfItsBlocksParse() throws Exception {
+		quarantinedBlockRepository.save(new QuarantinedBlock(null, FILE, 100, "<p><ent>Xyst</ent></p>", "broken",
+				Instant.now()));
+		quarantinedBlockRepository.save(new QuarantinedBlock(null, FILE, 200, "<p><!-- unterminated</p>",
+				"broken", Instant.now()));
+		quarantinedBlockRepository.save(new QuarantinedBlock(null, "CIDE.Y.xml", 100, "<p><!-- unterminated</p>",
+				"broken", Instant.now()));
+
+		assertEquals(List.of(FILE), ingestionService.recheckQuarantine());
+		// the blocks that still fail have their new error
+		List<QuarantinedBlock> stillFailing = quarantinedBlockRepository.findAllByOrderByFileNameAscBlockOffsetAsc()
+				.stream()
+				.filter(block -> block.getBlock().contains("unterminated"))
+				.toList();
+		assertEquals(2, stillFailing.size());
+		stillFailing.forEach(block -> assertEquals("Unterminated comment", block.getError()));
+
+		// importing the file again replaces its quarantined blocks with the ones its parse still fails on
+		ingestionService.importFiles(List.of(FILE), true);
+		assertEquals(List.of("CIDE.Y.xml"), quarantinedBlockRepository.findAll().stream()
+				.map(QuarantinedBlock::getFileName).toList());
+	}
+}
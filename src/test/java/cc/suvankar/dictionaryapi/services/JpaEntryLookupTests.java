@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import cc.suvankar.dictionaryapi.FreeDictionaryApiApplication;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(classes = FreeDictionaryApiApplication.class,
+		properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class JpaEntryLookupTests {
+
+	// has entries with several definitions, quotes, synonyms and conjugated forms
+	private static final String FILE = "CIDE.Z.xml";
+
+	// the entries, then one statement per collection: definitions, quotes, synonyms, parts of speech, verb
+	// morphology entries and their parts of speech
+	private static final long MAX_STATEMENTS = 7;
+
+	@Autowired
+	private IngestionService ingestionService;
+
+	@Autowired
+	private JpaEntryLookup jpaEntryLookup;
+
+	@Autowired
+	private XmlProcessor xmlProcessor;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void testLookupCostsFixedNumberOfStatements() throws Exception {
+		ingestionService.importFiles(List.of(FILE), true);
+
+		Set<String> words = new TreeSet<>();
+		for (DictionaryEntry entry : xmlProcessor.parseXml(FILE)) {
+			words.add(entry.getEntryWord().toLowerCase(Locale.ROOT));
+			entry.getVerbMorphologyEntries()
+					.forEach(verb -> words.add(verb.getConjugatedForm().toLowerCase(Locale.ROOT)));
+		}
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		long max = 0;
+		String costliest = null;
+		for (String word : words) {
+			statistics.clear();
+			List<DictionaryEntry> entries = jpaEntryLookup.findEntriesByWord(word);
+			assertFalse(entries.isEmpty(), word);
+			if (statistics.getPrepareStatementCount() > max) {
+				max = statistics.getPrepareStatementCount();
+				costliest = word;
+			}
+		}
+		String word = costliest;
+		long statements = max;
+		assertTrue(statements <= MAX_STATEMENTS, () -> word + " took " + statements + " statements");
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import cc.suvankar.dictionaryapi.FreeDictionaryApiApplication;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.repositories.LookupFilterRepository;
+import cc.suvankar.dictionaryapi.utils.LookupKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest(classes = FreeDictionaryApiApplication.class)
+@ActiveProfiles("test")
+class LookupFilterServiceTests {
+
+	private static final String FILE = "CIDE.Z.xml";
+
+	@Autowired
+	private IngestionService ingestionService;
+
+	@Autowired
+	private XmlProcessor xmlProcessor;
+
+	@Autowired
+	private LookupFilterRepository repository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void testFilterKeepsTheWordsAndIsStored() throws Exception {
+		ingestionService.importFiles(List.of(FILE), true);
+		Set<String> words = new TreeSet<>();
+		for (DictionaryEntry entry : xmlProcessor.parseXml(FILE)) {
+			words.add(LookupKeys.normalize(entry.getEntryWord()));
+			entry.getVerbMorphologyEntries()
+					.forEach(verb -> words.add(LookupKeys.normalize(verb.getConjugatedForm())));
+		}
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		LookupFilterService built = new LookupFilterService(repository, jdbcTemplate, registry);
+		built.rebuild();
+		assertMightContain(built, words);
+
+		// misspellings, the filter lets about 1% of them through
+		int filtered = 0;
+		for (int i = 0; i < 1000; i++) {
+			if (!built.mightContain("zqx" + i)) {
+				filtered++;
+			}
+		}
+		assertTrue(filtered > 950, filtered + " of 1000 misspellings filtered");
+		assertEquals(filtered, registry.get("dictionary.lookups.filtered").counter().count());
+
+		// loaded at startup
+		LookupFilterService loaded = new LookupFilterService(repository, jdbcTemplate, new SimpleMeterRegistry());
+		loaded.init();
+		assertFalse(loaded.isMissing());
+		assertMightContain(loaded, words);
+	}
+
+	private static void assertMightContain(LookupFilterService filter, Set<String> words) {
+		for (String word : words) {
+			assertTrue(filter.mightContain(word), word);
+		}
+	}
+}
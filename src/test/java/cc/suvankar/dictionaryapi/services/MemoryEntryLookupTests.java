@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import cc.suvankar.dictionaryapi.FreeDictionaryApiApplication;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+
+@SpringBootTest(classes = FreeDictionaryApiApplication.class)
+@ActiveProfiles("test")
+class MemoryEntryLookupTests {
+
+	// has conjugated forms, synonyms and quotes
+	private static final String FILE = "CIDE.Z.xml";
+
+	@Autowired
+	private IngestionService ingestionService;
+
+	@Autowired
+	private JpaEntryLookup jpaEntryLookup;
+
+	@Autowired
+	private XmlProcessor xmlProcessor;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void testMemoryLookupFindsWhatTheDatabaseFinds() throws Exception {
+		ingestionService.importFiles(List.of(FILE), true);
+		MemoryEntryLookup memoryEntryLookup = new MemoryEntryLookup(jdbcTemplate);
+		memoryEntryLookup.reload();
+
+		Set<String> words = new TreeSet<>();
+		for (DictionaryEntry entry : xmlProcessor.parseXml(FILE)) {
+			words.add(entry.getEntryWord().toLowerCase(Locale.ROOT));
+			entry.getVerbMorphologyEntries()
+					.forEach(verb -> words.add(verb.getConjugatedForm().toLowerCase(Locale.ROOT)));
+		}
+		for (String word : words) {
+			assertEquals(json(jpaEntryLookup.findEntriesByWord(word)), json(memoryEntryLookup.findEntriesByWord(word)),
+					word);
+		}
+		assertEquals(List.of(), memoryEntryLookup.findEntriesByWord("zqx"));
+	}
+
+	/**
+	 * As returned by /definitions. The parts of speech are sorted, the database does not keep their order.
+	 */
+	private String json(List<DictionaryEntry> entries) throws Exception {
+		entries.forEach(entry -> entry.setPartsOfSpeech(new TreeSet<>(entry.getPartsOfSpeech())));
+		return objectMapper.writeValueAsString(entries);
+	}
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import cc.suvankar.dictionaryapi.data.QuarantinedBlock;
+import cc.suvankar.dictionaryapi.exceptions.XmlParserException;
+import cc.suvankar.dictionaryapi.exceptions.XmlProcessorException;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.parser.BlockPreprocessor;
+import cc.suvankar.dictionaryapi.parser.BlockTokenizer;
+import cc.suvankar.dictionaryapi.parser.ParsedBlock;
+import cc.suvankar.dictionaryapi.parser.XmlParserStAXImpl;
+
+class XmlProcessorTests {
+
+	private static final String FILE = "CIDE.X.xml";
+
+	@Test
+	void testPipelinePersistsEntriesInFileOrder() {
+		List<DictionaryEntry> saved = Collections.synchronizedList(new ArrayList<>());
+		XmlProcessor processor = processor(saved, 1, 8, 3);
+
+		processor.processAndPersistXml(FILE);
+
+		assertEquals(processor.parseXml(FILE), saved);
+	}
+
+	@Test
+	void testPipelineWithSeveralWorkers() {
+		List<DictionaryEntry> saved = Collections.synchronizedList(new ArrayList<>());
+		XmlProcessor processor = processor(saved, 4, 2, 5);
+
+		processor.processAndPersistXml(FILE);
+
+		assertEquals(processor.parseXml(FILE).size(), saved.size());
+	}
+
+	@Test
+	void testFailedSaveDoesNotStopThePipeline() {
+		DictionaryEntryService dbService = mock(DictionaryEntryService.class);
+		doThrow(new IllegalStateException("db down")).when(dbService).saveAll(any(), any());
+		doThrow(new IllegalStateException("db down")).when(dbService).save(any(), any());
+		XmlProcessor processor = new XmlProcessor(new XmlParserStAXImpl(), new BlockTokenizer(),
+				new BlockPreprocessor(), new JpaEntryWriter(dbService),
+				new IngestionMetrics(new SimpleMeterRegistry()), null, null);
+		ReflectionTestUtils.setField(processor, "queueCapacity", 2);
+
+		// must return instead of blocking on the full queue
+		processor.processAndPersistXml(FILE);
+	}
+
+	@Test
+	void testFailedBatchIsRetriedOneByOne() {
+		DictionaryEntryService dbService = mock(DictionaryEntryService.class);
+		doThrow(new IllegalStateException("constraint violation")).when(dbService).saveAll(any(), any());
+		XmlProcessor processor = new XmlProcessor(new XmlParserStAXImpl(), new BlockTokenizer(),
+				new BlockPreprocessor(), new JpaEntryWriter(dbService),
+				new IngestionMetrics(new SimpleMeterRegistry()), null, null);
+
+		processor.processAndPersistXml(FILE);
+
+		verify(dbService, times(processor.parseXml(FILE).size())).save(any(), any());
+	}
+
+	@Test
+	void testFilesShareThePersistPoolOfTheScheduler() throws Exception {
+		IngestionScheduler scheduler = new IngestionScheduler(null);
+		ReflectionTestUtils.setField(scheduler, "maxConcurrentWrites", 2);
+		ReflectionTestUtils.setField(scheduler, "fileParallelism", 3);
+		scheduler.init();
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		AtomicLong persisted = new AtomicLong();
+		EntryWriter writer = (sourceFile, entries) -> {
+			threads.add(Thread.currentThread().getName());
+			persisted.addAndGet(entries.size());
+			return entries.size();
+		};
+		XmlProcessor processor = new XmlProcessor(new XmlParserStAXImpl(), new BlockTokenizer(),
+				new BlockPreprocessor(), writer, new IngestionMetrics(new SimpleMeterRegistry()), scheduler, null);
+		List<String> fileNames = List.of(FILE, "CIDE.Y.xml", "CIDE.Z.xml");
+
+		try {
+			scheduler.forEachFile(fileNames, processor::processAndPersistXml);
+		} finally {
+			scheduler.shutdown();
+		}
+
+		assertEquals(fileNames.stream().mapToLong(fileName -> processor.parseXml(fileName).size()).sum(),
+				persisted.get());
+		// 2 persist workers for each of the 3 files, on the 2 threads of the scheduler
+		assertTrue(threads.size() <= 2, threads.toString());
+		threads.forEach(thread -> assertTrue(thread.startsWith("ingestion-persist-"), thread));
+	}
+
+	@Test
+	void testInterruptedParseStopsThePersistWorkers() throws Exception {
+		Thread parser = Thread.currentThread();
+		Set<Thread> workers = ConcurrentHashMap.newKeySet();
+		EntryWriter writer = (sourceFile, entries) -> {
+			workers.add(Thread.currentThread());
+			parser.interrupt();
+			return entries.size();
+		};
+		XmlProcessor processor = new XmlProcessor(new XmlParserStAXImpl(), new BlockTokenizer(),
+				new BlockPreprocessor(), writer, new IngestionMetrics(new SimpleMeterRegistry()), null, null);
+		ReflectionTestUtils.setField(processor, "queueCapacity", 2);
+		ReflectionTestUtils.setField(processor, "batchSize", 1);
+
+		// the end of file marker can not be queued either
+		assertThrows(XmlProcessorException.class, () -> processor.processAndPersistXml(FILE));
+		assertTrue(Thread.interrupted());
+
+		for (Thread worker : workers) {
+			worker.join(10_000);
+			assertFalse(worker.isAlive(), worker.getName());
+		}
+	}
+
+	@Test
+	void testDuplicatesAreDroppedBeforePersisting() {
+		List<DictionaryEntry> saved = Collections.synchronizedList(new ArrayList<>());
+		XmlProcessor processor = processor(saved, 2, 8, 3);
+
+		// has an entry twice
+		XmlProcessor.PersistResult first = processor.processAndPersistXml("CIDE.J.xml");
+		// the same file again, only the entries of the file itself are compared
+		XmlProcessor.PersistResult second = processor.processAndPersistXml("CIDE.J.xml");
+
+		assertEquals(1, first.duplicates());
+		assertTrue(first.isComplete());
+		assertEquals(first, second);
+		assertEquals(2 * first.persisted(), saved.size());
+	}
+
+	@Test
+	void testStageMetricsAreTaggedByFile() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		XmlProcessor processor = new XmlProcessor(new XmlParserStAXImpl(), new BlockTokenizer(),
+				new BlockPreprocessor(), new JpaEntryWriter(mock(DictionaryEntryService.class)),
+				new IngestionMetrics(registry), null, null);
+		ReflectionTestUtils.setField(processor, "batchSize", 10);
+
+		XmlProcessor.PersistResult result = processor.processAndPersistXml(FILE);
+
+		assertEquals(result.parsed(), count(registry, "dictionary.ingestion.entries.parsed"));
+		assertTrue(count(registry, "dictionary.ingestion.blocks.scanned") > result.parsed());
+		assertTrue(count(registry, "dictionary.ingestion.continuations.attached") > 0);
+		assertTrue(registry.get("dictionary.ingestion.persist").tag("file", FILE).timer().count()
+				>= result.parsed() / 10);
+		// only there while the file is imported
+		assertNull(registry.find("dictionary.ingestion.queue.depth").gauge());
+	}
+
+	@Test
+	void testParallelParseMatchesSequentialParse() {
+		IngestionScheduler scheduler = new IngestionScheduler(null);
+		ReflectionTestUtils.setField(scheduler, "parseParallelism", 4);
+		scheduler.init();
+		XmlProcessor sequential = new XmlProcessor(new XmlParserStAXImpl(), new BlockTokenizer(),
+				new BlockPreprocessor(), null, new IngestionMetrics(new SimpleMeterRegistry()), null, null);
+		XmlProcessor parallel = new XmlProcessor(new XmlParserStAXImpl(), new BlockTokenizer(),
+				new BlockPreprocessor(), null, new IngestionMetrics(new SimpleMeterRegistry()), scheduler, null);
+		// small odd window, so that continuation blocks often start a new window
+		ReflectionTestUtils.setField(parallel, "parseWindow", 37);
+
+		try {
+			for (String fileName : List.of("CIDE.A.xml", FILE)) {
+				assertEquals(sequential.parseXml(fileName), parallel.parseXml(fileName), fileName);
+			}
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testFailedBlocksAreQuarantined() throws Exception {
+		XmlParserStAXImpl failingParser = new XmlParserStAXImpl() {
+			@Override
+			public ParsedBlock parseBlock(String xmlData) {
+				if (xmlData.contains("<ent>Xylite</ent>")) {
+					throw new XmlParserException("broken");
+				}
+				return super.parseBlock(xmlData);
+			}
+		};
+		BlockQuarantine quarantine = mock(BlockQuarantine.class);
+		XmlProcessor processor = new XmlProcessor(failingParser, new BlockTokenizer(), new BlockPreprocessor(),
+				null, new IngestionMetrics(new SimpleMeterRegistry()), null, quarantine);
+
+		List<DictionaryEntry> expected = new ArrayList<>(new XmlProcessor(new XmlParserStAXImpl(),
+				new BlockTokenizer(), new BlockPreprocessor(), null, new IngestionMetrics(new SimpleMeterRegistry()),
+				null, null).parseXml(FILE));
+		expected.removeIf(entry -> entry.getEntryWord().equals("Xylite"));
+		// the other entries of the file are not lost
+		assertEquals(expected, processor.parseXml(FILE));
+
+		ArgumentCaptor<List<QuarantinedBlock>> captor = ArgumentCaptor.forClass(List.class);
+		verify(quarantine).replace(eq(FILE), captor.capture());
+		assertEquals(1, captor.getValue().size());
+		QuarantinedBlock block = captor.getValue().get(0);
+		assertEquals("broken", block.getError());
+		// the offset points at the block in the file
+		try (InputStream in = getClass().getClassLoader().getResourceAsStream("GCIDE/" + FILE)) {
+			byte[] bytes = in.readAllBytes();
+			byte[] blockBytes = block.getBlock().getBytes(StandardCharsets.UTF_8);
+			assertEquals(block.getBlock(), new String(bytes, (int) block.getBlockOffset(), blockBytes.length,
+					StandardCharsets.UTF_8));
+		}
+		assertEquals("broken", processor.parseError(block.getBlock()));
+	}
+
+	private static double count(SimpleMeterRegistry registry, String name) {
+		return registry.get(name).tag("file", FILE).counter().count();
+	}
+
+	private XmlProcessor processor(List<DictionaryEntry> saved, int workers, int queueCapacity, int batchSize) {
+		DictionaryEntryService dbService = mock(DictionaryEntryService.class);
+		doAnswer(invocation -> {
+			List<DictionaryEntry> batch = invocation.getArgument(1);
+			assertTrue(batch.size() <= batchSize);
+			saved.addAll(batch);
+			return null;
+		}).when(dbService).saveAll(any(), any());
+
+		XmlProcessor processor = new XmlProcessor(new XmlParserStAXImpl(), new BlockTokenizer(),
+				new BlockPreprocessor(), new JpaEntryWriter(dbService),
+				new IngestionMetrics(new SimpleMeterRegistry()), null, null);
+		ReflectionTestUtils.setField(processor, "persistWorkers", workers);
+		ReflectionTestUtils.setField(processor, "queueCapacity", queueCapacity);
+		ReflectionTestUtils.setField(processor, "batchSize", batchSize);
+		return processor;
+	}
+}
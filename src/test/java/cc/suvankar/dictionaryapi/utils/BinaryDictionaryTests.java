@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.models.Quote;
+import cc.suvankar.dictionaryapi.models.VerbMorphologyEntry;
+
+class BinaryDictionaryTests {
+
+	private static final String HASH = "00112233445566778899aabbccddeeff00112233445566778899aabbccddeeff";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testEntriesAreFoundByEntryWordThenConjugatedForm() throws Exception {
+		DictionaryEntry run = entry("Run", "Run");
+		run.getPartsOfSpeech().add("verb");
+		run.getSynonym().getSynonymList().addAll(List.of("flee", "hasten"));
+		run.getSynonym().setSource("Webster");
+		run.getQuotes().add(new Quote("Run, run.", null, "Shak."));
+		run.getVerbMorphologyEntries().add(verb("Ran"));
+		run.getVerbMorphologyEntries().add(verb("Running"));
+		DictionaryEntry ran = entry("Ran", "Ran");
+		DictionaryEntry secondRun = entry("run", "Run");
+		secondRun.setEtymology("[AS. rinnan]");
+		DictionaryEntry café = entry("Café", "Ca·fé");
+
+		Path file = tempDir.resolve("dictionary.bin");
+		BinaryDictionary.builder().add(run).add(ran).add(secondRun).add(café).write(file, HASH);
+
+		try (BinaryDictionary dictionary = BinaryDictionary.open(file)) {
+			assertEquals(HASH, dictionary.getSourceHash());
+			assertEquals(4, dictionary.getEntryCount());
+			// run, ran, running, café
+			assertEquals(4, dictionary.getKeyCount());
+
+			assertEquals(List.of(run, secondRun), dictionary.find("run"));
+			assertEquals(List.of(ran, run), dictionary.find("ran"));
+			assertEquals(List.of(run), dictionary.find("running"));
+			assertEquals(List.of(café), dictionary.find("café"));
+			// the keys are lower case, like the database lookup
+			assertEquals(List.of(), dictionary.find("Run"));
+			assertEquals(List.of(), dictionary.find("runs"));
+			assertEquals(List.of(), dictionary.find(""));
+
+			assertEquals("Shak.", dictionary.find("running").get(0).getQuotes().get(0).getSource());
+			assertNull(dictionary.find("running").get(0).getQuotes().get(0).getAuthor());
+		}
+	}
+
+	private static DictionaryEntry entry(String entryWord, String headWord) {
+		DictionaryEntry entry = new DictionaryEntry();
+		entry.setEntryWord(entryWord);
+		entry.setHeadWord(headWord);
+		entry.getDefinitions().add(new Definition("Definition of " + entryWord, "1913 Webster", null));
+		return entry;
+	}
+
+	private static VerbMorphologyEntry verb(String conjugatedForm) {
+		VerbMorphologyEntry verb = new VerbMorphologyEntry();
+		verb.setConjugatedForm(conjugatedForm);
+		verb.getPartsOfSpeech().add("imp.");
+		return verb;
+	}
+}
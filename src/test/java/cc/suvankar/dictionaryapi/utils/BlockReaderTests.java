@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cc.suvankar.dictionaryapi.parser.BlockTokenizer;
+
+class BlockReaderTests {
+
+	private final BlockTokenizer tokenizer = new BlockTokenizer();
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testMappedReader() throws IOException {
+		Path file = tempDir.resolve("CIDE.test.xml");
+		Files.writeString(file, "<!-- header -->\n<p>a <p>b</p> æ—c</p>\n<p>d</p><p>unterminated");
+
+		try (BlockReader reader = new MappedBlockReader(file, tokenizer)) {
+			assertEquals(List.of("<p>a <p>b</p> æ—c</p>", "<p>d</p>"), blocks(reader));
+		}
+	}
+
+	@Test
+	void testStreamReaderAcrossBufferBoundaries() throws IOException {
+		String text = "xx<p>a <p>b</p> æ—c</p>yyyyyyyy<p>d</p></p><p>unterminated";
+
+		// a tiny buffer splits tags and multi byte characters between reads
+		try (BlockReader reader = new StreamBlockReader(
+				new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), tokenizer, 2)) {
+			assertEquals(List.of("<p>a <p>b</p> æ—c</p>", "<p>d</p>"), blocks(reader));
+		}
+	}
+
+	@Test
+	void testOffsetsAreInBytes() throws IOException {
+		// æ and — are 2 characters but 5 bytes, so the second block starts 3 bytes after its character index
+		String text = "xx<p>a æ—c</p>yy<p>d</p>";
+		Path file = tempDir.resolve("CIDE.test.xml");
+		Files.writeString(file, text);
+
+		try (BlockReader mapped = new MappedBlockReader(file, tokenizer);
+				BlockReader stream = new StreamBlockReader(
+						new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), tokenizer, 2)) {
+			for (BlockReader reader : List.of(mapped, stream)) {
+				reader.next();
+				assertEquals(2, reader.offset());
+				reader.next();
+				assertEquals(19, reader.offset());
+			}
+		}
+	}
+
+	@Test
+	void testReadersMatchTokenizerOnAllFiles() throws IOException, URISyntaxException {
+		List<String> fileNames = FileReaderUtil.listFiles();
+		assertEquals(23, fileNames.size());
+
+		for (String fileName : fileNames) {
+			String text = FileReaderUtil.readFile(fileName);
+			List<String> expected = new ArrayList<>();
+			BlockTokenizer.Cursor cursor = tokenizer.cursor(text);
+			while (cursor.next()) {
+				expected.add(text.substring(cursor.start(), cursor.end()));
+			}
+
+			try (BlockReader reader = FileReaderUtil.openBlocks(fileName, tokenizer)) {
+				assertEquals(expected, blocks(reader), fileName);
+			}
+			Path path = Paths.get(getClass().getClassLoader().getResource("GCIDE/" + fileName).toURI());
+			try (BlockReader reader = new StreamBlockReader(Files.newInputStream(path), tokenizer, 4096)) {
+				assertEquals(expected, blocks(reader), fileName);
+			}
+		}
+	}
+
+	private List<String> blocks(BlockReader reader) throws IOException {
+		List<String> blocks = new ArrayList<>();
+		String block;
+		while ((block = reader.next()) != null) {
+			blocks.add(block);
+		}
+		return blocks;
+	}
+}
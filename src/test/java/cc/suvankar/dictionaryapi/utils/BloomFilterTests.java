@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTests {
+
+	private static final int KEYS = 20_000;
+
+	@Test
+	void testFalsePositiveRate() {
+		for (double rate : new double[] { 0.1, 0.01, 0.001 }) {
+			BloomFilter filter = filter(rate);
+			for (int i = 0; i < KEYS; i++) {
+				assertTrue(filter.mightContain("word" + i));
+			}
+			int falsePositives = 0;
+			int absent = 200_000;
+			for (int i = 0; i < absent; i++) {
+				if (filter.mightContain("absent" + i)) {
+					falsePositives++;
+				}
+			}
+			double measured = (double) falsePositives / absent;
+			assertTrue(measured < rate * 1.5, () -> "rate " + rate + ", measured " + measured);
+		}
+	}
+
+	@Test
+	void testBytesRoundTrip() {
+		BloomFilter filter = filter(0.01);
+		BloomFilter read = BloomFilter.fromBytes(filter.toBytes(), filter.hashFunctions());
+
+		assertEquals(filter.bitCount(), read.bitCount());
+		for (int i = 0; i < KEYS; i++) {
+			assertTrue(read.mightContain("word" + i));
+			assertEquals(filter.mightContain("absent" + i), read.mightContain("absent" + i));
+		}
+	}
+
+	@Test
+	void testEmptyFilter() {
+		BloomFilter filter = BloomFilter.create(0, 0.01);
+		assertFalse(filter.mightContain("word"));
+		assertFalse(filter.mightContain(""));
+		assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(10, 0));
+		assertThrows(IllegalArgumentException.class, () -> BloomFilter.fromBytes(new byte[3], 1));
+	}
+
+	private static BloomFilter filter(double rate) {
+		BloomFilter filter = BloomFilter.create(KEYS, rate);
+		for (int i = 0; i < KEYS; i++) {
+			filter.put("word" + i);
+		}
+		return filter;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+
+class DuplicateEntryIndexTests {
+
+	@Test
+	void testSameEntryIsDuplicate() {
+		DuplicateEntryIndex index = new DuplicateEntryIndex();
+
+		assertFalse(index.isDuplicate(entry("Whop", "Whop", "Same as Whap.", "v. t.")));
+		assertTrue(index.isDuplicate(entry("Whop", "Whop", "Same as Whap.", "v. t.")));
+		// same key, but another sense
+		assertFalse(index.isDuplicate(entry("Whop", "Whop", "Same as Whap.", "n.")));
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	void testEverySenseOfAKeyIsIndexed() {
+		DuplicateEntryIndex index = new DuplicateEntryIndex();
+
+		assertFalse(index.isDuplicate(entry("Whop", "Whop", "Same as Whap.", "v. t.")));
+		assertFalse(index.isDuplicate(entry("Whop", "Whop", "Same as Whap.", "n.")));
+		// the same as the second entry, not the first one seen with the key
+		assertTrue(index.isDuplicate(entry("Whop", "Whop", "Same as Whap.", "n.")));
+		assertTrue(index.isDuplicate(entry("Whop", "Whop", "Same as Whap.", "v. t.")));
+	}
+
+	@Test
+	void testKeyIgnoresCaseAndWhitespace() {
+		assertEquals(DuplicateEntryIndex.key(entry("Whop", "Whop", "Same as Whap.", "n.")),
+				DuplicateEntryIndex.key(entry("whop", "WHOP", "  Same  as\nWhap. ", "n.")));
+		assertNotEquals(DuplicateEntryIndex.key(entry("Whop", "Whop", "Same as Whap.", "n.")),
+				DuplicateEntryIndex.key(entry("Whop", "Whop", "Sameas Whap.", "n.")));
+		// text moved from one field to the next
+		assertNotEquals(DuplicateEntryIndex.key(entry("Whop", "Whop", null, "n.")),
+				DuplicateEntryIndex.key(entry("Who", "pWhop", null, "n.")));
+	}
+
+	@Test
+	void testSharedByThreads() throws InterruptedException {
+		DuplicateEntryIndex index = new DuplicateEntryIndex();
+		AtomicInteger kept = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		for (int thread = 0; thread < 4; thread++) {
+			executor.execute(() -> {
+				for (int i = 0; i < 1000; i++) {
+					if (!index.isDuplicate(entry("Word" + i, "Word", "Sense " + i, "n."))) {
+						kept.incrementAndGet();
+					}
+				}
+			});
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+		assertEquals(1000, kept.get());
+	}
+
+	private static DictionaryEntry entry(String entryWord, String headWord, String definitionText,
+			String partOfSpeech) {
+		DictionaryEntry entry = new DictionaryEntry();
+		entry.setEntryWord(entryWord);
+		entry.setHeadWord(headWord);
+		if (definitionText != null) {
+			Definition definition = new Definition();
+			definition.setDefinition(definitionText);
+			entry.getDefinitions().add(definition);
+		}
+		entry.getPartsOfSpeech().add(partOfSpeech);
+		return entry;
+	}
+}
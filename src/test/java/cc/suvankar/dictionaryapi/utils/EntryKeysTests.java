@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+
+class EntryKeysTests {
+
+	@Test
+	void testOrdinalsCountSameWordAndHeadWord() {
+		EntryKeys.Ordinals ordinals = new EntryKeys.Ordinals();
+
+		assertEquals(0, ordinals.next(entry("Bank", "Bank")));
+		assertEquals(0, ordinals.next(entry("Bank", "Bank·er")));
+		assertEquals(1, ordinals.next(entry("Bank", "Bank")));
+		assertEquals(0, ordinals.next(entry("Banker", "Bank")));
+		assertEquals(2, ordinals.next(entry("Bank", "Bank")));
+	}
+
+	@Test
+	void testContentHashFollowsContent() {
+		DictionaryEntry entry = entry("Bank", "Bank");
+		Definition definition = new Definition();
+		definition.setDefinition("A mound");
+		entry.getDefinitions().add(definition);
+		String hash = EntryKeys.contentHash(entry);
+
+		// the ordinal is part of the key, not of the content
+		entry.setOrdinal(3);
+		assertEquals(hash, EntryKeys.contentHash(entry));
+
+		definition.setMark("Obs.");
+		assertNotEquals(hash, EntryKeys.contentHash(entry));
+
+		// text moved from one field to the next
+		DictionaryEntry other = entry("Ban", "kBank");
+		other.getDefinitions().add(definition);
+		definition.setMark(null);
+		assertNotEquals(hash, EntryKeys.contentHash(other));
+	}
+
+	private static DictionaryEntry entry(String entryWord, String headWord) {
+		DictionaryEntry entry = new DictionaryEntry();
+		entry.setEntryWord(entryWord);
+		entry.setHeadWord(headWord);
+		return entry;
+	}
+}
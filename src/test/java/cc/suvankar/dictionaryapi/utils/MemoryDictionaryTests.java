@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2025 Suvankar Mitra
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cc.suvankar.dictionaryapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import cc.suvankar.dictionaryapi.models.Definition;
+import cc.suvankar.dictionaryapi.models.DictionaryEntry;
+import cc.suvankar.dictionaryapi.models.Quote;
+import cc.suvankar.dictionaryapi.models.VerbMorphologyEntry;
+
+class MemoryDictionaryTests {
+
+	@Test
+	void testEntriesAreFoundByEntryWordThenConjugatedForm() {
+		DictionaryEntry run = entry("Run", "Run");
+		run.getPartsOfSpeech().add("verb");
+		run.getSynonym().getSynonymList().addAll(List.of("flee", "hasten"));
+		run.getSynonym().setSource("Webster");
+		run.getQuotes().add(new Quote("Run, run.", null, "Shak."));
+		run.getVerbMorphologyEntries().add(verb("Ran"));
+		run.getVerbMorphologyEntries().add(verb("Running"));
+		DictionaryEntry ran = entry("Ran", "Ran");
+		DictionaryEntry secondRun = entry("run", "Run");
+		secondRun.setEtymology("[AS. rinnan]");
+		DictionaryEntry café = entry("Café", "Ca·fé");
+
+		MemoryDictionary dictionary = MemoryDictionary.builder().add(run).add(ran).add(secondRun).add(café).build();
+		assertEquals(4, dictionary.getEntryCount());
+		// run, ran, running, café
+		assertEquals(4, dictionary.getKeyCount());
+
+		assertEquals(List.of(run, secondRun), dictionary.find("run"));
+		assertEquals(List.of(ran, run), dictionary.find("ran"));
+		assertEquals(List.of(run), dictionary.find("running"));
+		assertEquals(List.of(café), dictionary.find("café"));
+		// the keys are lower case, like the database lookup
+		assertEquals(List.of(), dictionary.find("Run"));
+		assertEquals(List.of(), dictionary.find("runs"));
+		assertEquals(List.of(), dictionary.find(""));
+
+		assertEquals("Shak.", dictionary.find("running").get(0).getQuotes().get(0).getSource());
+		assertNull(dictionary.find("running").get(0).getQuotes().get(0).getAuthor());
+		assertEquals(run.getSynonym(), dictionary.find("running").get(0).getSynonym());
+	}
+
+	@Test
+	void testStringsAreStoredOnce() {
+		MemoryDictionary.Builder builder = MemoryDictionary.builder();
+		for (int i = 0; i < 1000; i++) {
+			builder.add(entry("word" + i, "Word"));
+		}
+		MemoryDictionary dictionary = builder.build();
+
+		// the entry words, which are their own keys, their definitions, "Word" and "1913 Webster"
+		assertEquals(2000 + 2, dictionary.getStringCount());
+		assertEquals(1000, dictionary.getKeyCount());
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(List.of(entry("word" + i, "Word")), dictionary.find("word" + i));
+		}
+		assertTrue(dictionary.footprint() > 0);
+	}
+
+	@Test
+	void testFoundEntriesAreCopies() {
+		MemoryDictionary dictionary = MemoryDictionary.builder().add(entry("run", "Run")).build();
+
+		dictionary.find("run").get(0).getDefinitions().clear();
+		assertEquals(1, dictionary.find("run").get(0).getDefinitions().size());
+	}
+
+	private static DictionaryEntry entry(String entryWord, String headWord) {
+		DictionaryEntry entry = new DictionaryEntry();
+		entry.setEntryWord(entryWord);
+		entry.setHeadWord(headWord);
+		entry.getDefinitions().add(new Definition("Definition of " + entryWord, "1913 Webster", null));
+		return entry;
+	}
+
+	private static VerbMorphologyEntry verb(String conjugatedForm) {
+		VerbMorphologyEntry verb = new VerbMorphologyEntry();
+		verb.setConjugatedForm(conjugatedForm);
+		verb.getPartsOfSpeech().add("imp.");
+		return verb;
+	}
+}